@@ -1,5 +1,7 @@
+import json
 import time
 from fastapi import APIRouter
+from fastapi.responses import StreamingResponse
 from chat.agents import ToolCallingAgentBuilder
 from langchain_core.messages import AIMessage, HumanMessage
 from chat.payloads import ConversationPayload, MessageAuthor
@@ -69,6 +71,38 @@ def get_agent_response(chat: ConversationPayload):
     }
 
 
+# Stream agent response token by token (newline-delimited JSON)
+@router.post("/stream-agent-response/", tags=["Live"])
+async def stream_agent_response(chat: ConversationPayload):
+    # Format chat history the same way as the blocking route
+    chat_history = []
+    for message in chat.messages[:-1]:
+        if message.sender == MessageAuthor.HUMAN:
+            formatted_msg = HumanMessage(content=message.content)
+        elif message.sender == MessageAuthor.AI:
+            formatted_msg = AIMessage(content=message.content)
+        chat_history.append(formatted_msg)
+
+    # Setup agent
+    agent = ToolCallingAgentBuilder()
+
+    async def token_stream():
+        # Relay each chunk produced by the chat model as soon as it arrives
+        async for event in agent.astream_events(
+            {
+                "input": chat.messages[-1].content,
+                "chat_history": chat_history,
+            },
+            version="v2",
+        ):
+            if event["event"] == "on_chat_model_stream":
+                token = event["data"]["chunk"].content
+                if token:
+                    yield json.dumps({"token": token}) + "\n"
+
+    return StreamingResponse(token_stream(), media_type="application/x-ndjson")
+
+
 # Make module safely exportable
 if __name__ == "__main__":
     pass
@@ -0,0 +1,48 @@
+"""Export the fertilizer decision tree to a portable JSON file for the Spring Boot server.
+
+The server scores fertilizer recommendations in-process from this export, so re-run this
+script whenever `fertilizer_recommender_decision_tree.pkl` is retrained:
+
+    python export_fertilizer_tree.py
+"""
+
+import json
+import joblib
+from settings import FERTILIZER_MODEL, FERTILIZER_ENCODER_MODEL
+
+OUTPUT_PATH = "../server/src/main/resources/models/fertilizer-tree.json"
+
+
+def export_tree(model_path=FERTILIZER_MODEL, encoder_path=FERTILIZER_ENCODER_MODEL, output_path=OUTPUT_PATH):
+    # Load pickled model and label encoder
+    model = joblib.load(model_path)
+    label_encoder = joblib.load(encoder_path)
+    tree = model.tree_
+
+    # Normalize node values so a leaf row is its class probability distribution
+    values = tree.value[:, 0, :]
+    totals = values.sum(axis=1, keepdims=True)
+    totals[totals == 0] = 1
+    values = values / totals
+
+    export = {
+        "source": "intelligence/" + model_path,
+        "features": [str(name) for name in model.feature_names_in_],
+        "classes": [str(name) for name in label_encoder.classes_],
+        "left": tree.children_left.tolist(),
+        "right": tree.children_right.tolist(),
+        "feature": tree.feature.tolist(),
+        "threshold": tree.threshold.tolist(),
+        "value": values.tolist(),
+    }
+
+    with open(output_path, "w") as f:
+        json.dump(export, f, indent=1)
+        f.write("\n")
+
+    print(f"Exported {tree.node_count} nodes to {output_path}")
+
+
+# Run export when executed directly
+if __name__ == "__main__":
+    export_tree()
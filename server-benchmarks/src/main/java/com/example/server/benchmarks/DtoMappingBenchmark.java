@@ -0,0 +1,122 @@
+package com.example.server.benchmarks;
+
+import com.example.server.dto.FertilizerDTO;
+import com.example.server.dto.NewsResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
+import com.example.server.model.Fertilizer;
+import com.example.server.model.News;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping for list endpoints: the Lombok builder the services use today,
+ * the all-args constructor used by JPQL constructor projections, and a record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int size;
+
+    private List<Fertilizer> fertilizers;
+    private List<News> news;
+
+    @Setup
+    public void setUp() {
+        fertilizers = Fixtures.fertilizers(size);
+        news = Fixtures.news(size);
+    }
+
+    @Benchmark
+    public List<FertilizerDTO> fertilizerBuilder() {
+        List<FertilizerDTO> dtos = new ArrayList<>(fertilizers.size());
+        for (Fertilizer f : fertilizers) {
+            dtos.add(FertilizerDTO.builder()
+                    .id(f.getId())
+                    .name(f.getName())
+                    .description(f.getDescription())
+                    .imagePath(f.getImagePath())
+                    .instructions(f.getInstructions())
+                    .percentage(f.getPercentage())
+                    .build());
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<FertilizerDTO> fertilizerConstructor() {
+        List<FertilizerDTO> dtos = new ArrayList<>(fertilizers.size());
+        for (Fertilizer f : fertilizers) {
+            dtos.add(new FertilizerDTO(f.getId(), f.getName(), f.getDescription(), f.getImagePath(),
+                    f.getInstructions(), f.getPercentage()));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<Views.FertilizerView> fertilizerRecord() {
+        List<Views.FertilizerView> views = new ArrayList<>(fertilizers.size());
+        for (Fertilizer f : fertilizers) {
+            views.add(new Views.FertilizerView(f.getId(), f.getName(), f.getDescription(), f.getImagePath(),
+                    f.getInstructions(), f.getPercentage()));
+        }
+        return views;
+    }
+
+    // The stream().map().toList() shape used by getAllFertilizers
+    @Benchmark
+    public List<FertilizerDTO> fertilizerStreamBuilder() {
+        return fertilizers.stream().map(f -> FertilizerDTO.builder()
+                .id(f.getId())
+                .name(f.getName())
+                .description(f.getDescription())
+                .imagePath(f.getImagePath())
+                .instructions(f.getInstructions())
+                .percentage(f.getPercentage())
+                .build()).toList();
+    }
+
+    @Benchmark
+    public List<NewsResponseDTO> newsFullBuilder() {
+        List<NewsResponseDTO> dtos = new ArrayList<>(news.size());
+        for (News n : news) {
+            dtos.add(NewsResponseDTO.builder()
+                    .id(n.getId())
+                    .title(n.getTitle())
+                    .body(n.getBody())
+                    .imagePath(n.getImagePath())
+                    .timestamp(n.getTimestamp())
+                    .author(n.getAuthor())
+                    .build());
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<NewsSummaryDTO> newsSummaryConstructor() {
+        List<NewsSummaryDTO> dtos = new ArrayList<>(news.size());
+        for (News n : news) {
+            dtos.add(new NewsSummaryDTO(n.getId(), n.getTitle(), n.getImagePath(), n.getTimestamp(), n.getAuthor(),
+                    n.getCommentCount()));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<Views.NewsSummaryView> newsSummaryRecord() {
+        List<Views.NewsSummaryView> views = new ArrayList<>(news.size());
+        for (News n : news) {
+            views.add(new Views.NewsSummaryView(n.getId(), n.getTitle(), n.getImagePath(), n.getTimestamp(),
+                    n.getAuthor(), n.getCommentCount()));
+        }
+        return views;
+    }
+}
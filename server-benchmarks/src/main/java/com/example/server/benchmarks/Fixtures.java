@@ -0,0 +1,71 @@
+package com.example.server.benchmarks;
+
+import com.example.server.model.Fertilizer;
+import com.example.server.model.Message;
+import com.example.server.model.News;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entities shaped like production rows: catalog text fields of a few hundred characters
+final class Fixtures {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 6, 0);
+
+    private Fixtures() {
+    }
+
+    static List<Fertilizer> fertilizers(int size) {
+        List<Fertilizer> fertilizers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fertilizers.add(Fertilizer.builder()
+                    .id((long) i)
+                    .name("Fertilizer " + i)
+                    .description(text("Slow release blend for paddy and vegetables. ", 6))
+                    .imagePath("https://cdn.pohora.lk/fertilizers/" + i + ".webp")
+                    .instructions(text("Apply in split doses after weeding, then irrigate. ", 8))
+                    .percentage("46-0-0")
+                    .build());
+        }
+        return fertilizers;
+    }
+
+    static List<News> news(int size) {
+        List<News> news = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            news.add(News.builder()
+                    .id((long) i)
+                    .title("Yala season advisory #" + i)
+                    .body(text("Department of Agriculture advises farmers to prepare fields early. ", 30))
+                    .imagePath("https://cdn.pohora.lk/news/" + i + ".webp")
+                    .timestamp(START.plusHours(i))
+                    .author("Extension Office")
+                    .commentCount((long) (i % 40))
+                    .build());
+        }
+        return news;
+    }
+
+    // A chat history: short questions alternating with longer bot answers
+    static List<Message> messages(int size) {
+        List<Message> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean bot = i % 2 == 1;
+            messages.add(Message.builder()
+                    .id((long) i)
+                    .isBot(bot)
+                    .userId("user-" + (i % 7))
+                    .content(bot
+                            ? text("Apply urea in two split doses and keep the field flooded for a week. ", 5)
+                            : "When should I apply urea to paddy?")
+                    .timestamp(START.plusMinutes(i))
+                    .build());
+        }
+        return messages;
+    }
+
+    private static String text(String sentence, int times) {
+        return sentence.repeat(times).trim();
+    }
+}
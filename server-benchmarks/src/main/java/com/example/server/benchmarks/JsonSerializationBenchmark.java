@@ -0,0 +1,93 @@
+package com.example.server.benchmarks;
+
+import com.example.server.dto.FertilizerDTO;
+import com.example.server.dto.NewsResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing list payloads to UTF-8 bytes: the mapper Spring MVC builds by default, the same
+ * mapper with Blackbird, a pre-resolved ObjectWriter, and record payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int size;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper blackbirdMapper;
+    private ObjectWriter fertilizerListWriter;
+
+    private List<FertilizerDTO> fertilizers;
+    private List<Views.FertilizerView> fertilizerViews;
+    private List<NewsResponseDTO> newsFull;
+    private List<NewsSummaryDTO> newsSummaries;
+
+    @Setup
+    public void setUp() {
+        // Same builder Spring Boot starts from (JavaTimeModule, ISO dates, no FAIL_ON_UNKNOWN_PROPERTIES)
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        blackbirdMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        fertilizerListWriter = defaultMapper.writerFor(new TypeReference<List<FertilizerDTO>>() {
+        });
+
+        DtoMappingBenchmark mapping = new DtoMappingBenchmark();
+        mapping.size = size;
+        mapping.setUp();
+        fertilizers = mapping.fertilizerBuilder();
+        fertilizerViews = mapping.fertilizerRecord();
+        newsFull = mapping.newsFullBuilder();
+        newsSummaries = mapping.newsSummaryConstructor();
+    }
+
+    @Benchmark
+    public byte[] fertilizersDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(fertilizers);
+    }
+
+    @Benchmark
+    public byte[] fertilizersBlackbird() throws JsonProcessingException {
+        return blackbirdMapper.writeValueAsBytes(fertilizers);
+    }
+
+    @Benchmark
+    public byte[] fertilizersTypedWriter() throws JsonProcessingException {
+        return fertilizerListWriter.writeValueAsBytes(fertilizers);
+    }
+
+    @Benchmark
+    public byte[] fertilizerRecordsDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(fertilizerViews);
+    }
+
+    // The old news list shape: every article body in the payload
+    @Benchmark
+    public byte[] newsFullDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(newsFull);
+    }
+
+    @Benchmark
+    public byte[] newsSummariesDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(newsSummaries);
+    }
+
+    @Benchmark
+    public byte[] newsSummariesBlackbird() throws JsonProcessingException {
+        return blackbirdMapper.writeValueAsBytes(newsSummaries);
+    }
+}
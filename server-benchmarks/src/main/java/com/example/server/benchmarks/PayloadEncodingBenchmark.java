@@ -0,0 +1,126 @@
+package com.example.server.benchmarks;
+
+import com.example.server.dto.FertilizerDTO;
+import com.example.server.dto.MessageResponseDTO;
+import com.example.server.dto.NewsResponseDTO;
+import com.example.server.model.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU cost of writing list payloads in each negotiated format, with and without the gzip pass
+ * Tomcat applies above server.compression.min-response-size. Run {@link #main} for the matching
+ * payload sizes: java -cp target/benchmarks.jar com.example.server.benchmarks.PayloadEncodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private ObjectMapper mapper;
+    private boolean gzip;
+
+    private List<NewsResponseDTO> news;
+    private List<FertilizerDTO> fertilizers;
+    private List<MessageResponseDTO> messages;
+
+    @Setup
+    public void setUp() {
+        mapper = mapper(format);
+        gzip = "gzip".equals(encoding);
+
+        DtoMappingBenchmark mapping = new DtoMappingBenchmark();
+        mapping.size = size;
+        mapping.setUp();
+        news = mapping.newsFullBuilder();
+        fertilizers = mapping.fertilizerBuilder();
+        messages = messages(size);
+    }
+
+    @Benchmark
+    public byte[] news() throws IOException {
+        return encode(mapper, news, gzip);
+    }
+
+    @Benchmark
+    public byte[] fertilizers() throws IOException {
+        return encode(mapper, fertilizers, gzip);
+    }
+
+    @Benchmark
+    public byte[] messages() throws IOException {
+        return encode(mapper, messages, gzip);
+    }
+
+    // Same builders Spring Boot starts from, so dates are ISO strings in every format
+    static ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+    static byte[] encode(ObjectMapper mapper, Object payload, boolean gzip) throws IOException {
+        if (!gzip) {
+            return mapper.writeValueAsBytes(payload);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            mapper.writeValue(compressed, payload);
+        }
+        return out.toByteArray();
+    }
+
+    static List<MessageResponseDTO> messages(int size) {
+        List<MessageResponseDTO> dtos = new ArrayList<>(size);
+        for (Message m : Fixtures.messages(size)) {
+            dtos.add(new MessageResponseDTO(m.getId(), m.getIsBot(), m.getUserId(), m.getContent(), m.getTimestamp()));
+        }
+        return dtos;
+    }
+
+    // Payload bytes per format and encoding, the other half of the trade-off
+    public static void main(String[] args) throws IOException {
+        PayloadEncodingBenchmark lists = new PayloadEncodingBenchmark();
+        lists.size = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        lists.format = "json";
+        lists.encoding = "identity";
+        lists.setUp();
+
+        System.out.printf("%-12s %-8s %10s %10s%n", "payload", "format", "identity", "gzip");
+        for (String payload : List.of("news", "fertilizers", "messages")) {
+            Object value = switch (payload) {
+                case "news" -> lists.news;
+                case "fertilizers" -> lists.fertilizers;
+                default -> lists.messages;
+            };
+            for (String format : List.of("json", "cbor", "smile")) {
+                ObjectMapper mapper = mapper(format);
+                System.out.printf("%-12s %-8s %10d %10d%n", payload, format,
+                        encode(mapper, value, false).length, encode(mapper, value, true).length);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.server.benchmarks;
+
+import java.time.LocalDateTime;
+
+// Record counterparts of the Lombok DTOs, to compare against builder-built classes
+final class Views {
+
+    private Views() {
+    }
+
+    record FertilizerView(Long id, String name, String description, String imagePath, String instructions,
+                          String percentage) {
+    }
+
+    record NewsSummaryView(Long id, String title, String imagePath, LocalDateTime timestamp, String author,
+                           Long commentCount) {
+    }
+}
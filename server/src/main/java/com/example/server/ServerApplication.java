@@ -3,19 +3,32 @@ package com.example.server;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class ServerApplication {
 
 	public static void main(String[] args) {
-		Dotenv dotenv = Dotenv.load();
-
-		System.setProperty("DB_URL", dotenv.get("DB_URL"));
-		System.setProperty("DB_USERNAME", dotenv.get("DB_USERNAME"));
-		System.setProperty("DB_PASSWORD", dotenv.get("DB_PASSWORD"));
+		// Deployments pass these as real environment variables; .env is a local-development fallback
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		copyToSystemProperty(dotenv, "DB_URL");
+		copyToSystemProperty(dotenv, "DB_USERNAME");
+		copyToSystemProperty(dotenv, "DB_PASSWORD");
+		copyToSystemProperty(dotenv, "DB_REPLICA_URL");
 
+		SpringApplication application = new SpringApplication(ServerApplication.class);
+		if (Boolean.parseBoolean(dotenv.get("STARTUP_REPORT", "false"))) {
+			// Read by StartupReportLogger once the application is ready
+			application.setApplicationStartup(new BufferingApplicationStartup(10_000));
+		}
+		application.run(args);
+	}
 
-		SpringApplication.run(ServerApplication.class, args);
+	private static void copyToSystemProperty(Dotenv dotenv, String key) {
+		String value = dotenv.get(key);
+		if (value != null) {
+			System.setProperty(key, value);
+		}
 	}
 
 }
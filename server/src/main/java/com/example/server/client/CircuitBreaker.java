@@ -0,0 +1,129 @@
+package com.example.server.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Count-based circuit breaker. Opens when the failure rate over the last {@code windowSize}
+ * calls reaches the threshold, rejects calls while open, then lets a single probe through;
+ * the probe's outcome closes or re-opens the circuit. Outcomes of calls permitted in an earlier
+ * period (before the circuit last opened or closed) are ignored.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public static final long REJECTED = -1;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    // Bumped on every state change and every probe, so a permit names the period it was granted in
+    private long generation;
+    private long probe = REJECTED;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration, Clock clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * Returns a permit to pass back with the call's outcome, or {@link #REJECTED}. While half-open
+     * only the probe's permit counts; calls let through before the circuit opened cannot close it.
+     */
+    public synchronized long tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return generation;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return REJECTED;
+                }
+                state = State.HALF_OPEN;
+                probe = ++generation;
+                return probe;
+            default:
+                if (probe != REJECTED) {
+                    return REJECTED;
+                }
+                probe = ++generation;
+                return probe;
+        }
+    }
+
+    // For a permit that was granted but never used, e.g. the bulkhead turned the call away
+    public synchronized void releasePermission(long permit) {
+        if (state == State.HALF_OPEN && permit == probe) {
+            probe = REJECTED;
+        }
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (state == State.HALF_OPEN && permit == probe) {
+            close();
+        } else if (state == State.CLOSED && permit == generation) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (state == State.HALF_OPEN && permit == probe) {
+            open();
+        } else if (state == State.CLOSED && permit == generation) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+        generation++;
+        probe = REJECTED;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        probe = REJECTED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.server.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Calls the intelligence service behind a circuit breaker and a concurrency bulkhead.
+ * Blocking replies also get an overall deadline and, when enabled, one hedged attempt.
+ * Every failure surfaces as {@link IntelligenceUnavailableException} so callers can fall back.
+ */
+@Slf4j
+@Component
+public class IntelligenceClient {
+
+    private static final String AGENT_RESPONSE_PATH = "/chat/get-agent-response/";
+    private static final String STREAM_AGENT_RESPONSE_PATH = "/chat/stream-agent-response/";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor intelligenceExecutor;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${intelligence.base-url}")
+    private String baseUrl;
+
+    @Value("${intelligence.resilience.max-wait:500ms}")
+    private Duration maxWait;
+
+    @Value("${intelligence.resilience.deadline:25s}")
+    private Duration deadline;
+
+    @Value("${intelligence.resilience.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${intelligence.resilience.hedge.delay:10s}")
+    private Duration hedgeDelay;
+
+    public IntelligenceClient(RestTemplate restTemplate,
+                              ObjectMapper objectMapper,
+                              @Qualifier("intelligenceExecutor") Executor intelligenceExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${intelligence.resilience.max-concurrent:16}") int maxConcurrent,
+                              @Value("${intelligence.resilience.circuit.window-size:20}") int windowSize,
+                              @Value("${intelligence.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                              @Value("${intelligence.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                              @Value("${intelligence.resilience.circuit.open-duration:30s}") Duration openDuration) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.intelligenceExecutor = intelligenceExecutor;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration, Clock.systemUTC());
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.meterRegistry = meterRegistry;
+        // 0 = closed, 1 = half-open, 2 = open
+        Gauge.builder("intelligence.circuit.state", circuitBreaker, breaker -> switch (breaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .register(meterRegistry);
+        Gauge.builder("intelligence.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    public String getAgentResponse(String content) {
+        long start = System.nanoTime();
+        long permit = circuitBreaker.tryAcquirePermission();
+        if (permit == CircuitBreaker.REJECTED) {
+            recordCall("reply", "circuit_open", start);
+            throw new IntelligenceUnavailableException("Intelligence service circuit is open");
+        }
+        long deadlineNanos = start + deadline.toNanos();
+        CompletableFuture<String> primary;
+        try {
+            primary = submit(() -> fetchAgentResponse(content), maxWait);
+        } catch (IntelligenceUnavailableException e) {
+            circuitBreaker.releasePermission(permit);
+            recordCall("reply", "rejected", start);
+            throw e;
+        }
+
+        try {
+            String reply = awaitReply(primary, () -> fetchAgentResponse(content), deadlineNanos);
+            circuitBreaker.onSuccess(permit);
+            recordCall("reply", "success", start);
+            return reply;
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure(permit);
+            recordCall("reply", "timeout", start);
+            throw new IntelligenceUnavailableException("Intelligence service did not answer within " + deadline);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure(permit);
+            recordCall("reply", "error", start);
+            throw new IntelligenceUnavailableException("Intelligence service call failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission(permit);
+            throw new IntelligenceUnavailableException("Interrupted while waiting for the intelligence service", e);
+        }
+    }
+
+    // Waits for the first attempt; past the hedge delay a second attempt races it if the bulkhead has room
+    private String awaitReply(CompletableFuture<String> primary, Supplier<String> attempt, long deadlineNanos)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        if (hedgeEnabled) {
+            try {
+                return primary.get(Math.min(hedgeDelay.toNanos(), remaining(deadlineNanos)), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                CompletableFuture<String> hedge;
+                try {
+                    hedge = submit(attempt, Duration.ZERO);
+                } catch (IntelligenceUnavailableException full) {
+                    hedge = null;
+                }
+                if (hedge != null) {
+                    log.debug("Hedging slow intelligence call");
+                    return firstSuccess(primary, hedge).get(remaining(deadlineNanos), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        return primary.get(remaining(deadlineNanos), TimeUnit.NANOSECONDS);
+    }
+
+    // The permit is held until the HTTP call really ends, even if the caller gave up at its deadline
+    private <T> CompletableFuture<T> submit(Supplier<T> attempt, Duration wait) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntelligenceUnavailableException("Interrupted while waiting for the intelligence bulkhead", e);
+        }
+        if (!acquired) {
+            throw new IntelligenceUnavailableException("Too many concurrent intelligence calls");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return attempt.get();
+                } finally {
+                    bulkhead.release();
+                }
+            }, intelligenceExecutor);
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            throw new IntelligenceUnavailableException("Intelligence executor is saturated", e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        for (CompletableFuture<T> attempt : List.of(first, second)) {
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else if (failed.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    // End-to-end time including bulkhead wait and hedging; raw HTTP timings are in http.client.requests
+    private void recordCall(String mode, String outcome, long startNanos) {
+        Timer.builder("intelligence.calls")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static long remaining(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private String fetchAgentResponse(String content) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(buildRequestBody(content), headers);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(baseUrl + AGENT_RESPONSE_PATH, request, Map.class);
+
+        Map<String, Object> body = response.getBody();
+        if (body == null || !(body.get("data") instanceof Map<?, ?> data) || !(data.get("output") instanceof String output)) {
+            throw new RestClientException("Unexpected response from intelligence service");
+        }
+        return output;
+    }
+
+    // Relays each token to the consumer as it arrives and returns the assembled reply.
+    // Runs on the caller's thread; the socket read timeout bounds gaps between tokens.
+    public String streamAgentResponse(String content, Consumer<String> onToken) {
+        long start = System.nanoTime();
+        long permit = circuitBreaker.tryAcquirePermission();
+        if (permit == CircuitBreaker.REJECTED) {
+            recordCall("stream", "circuit_open", start);
+            throw new IntelligenceUnavailableException("Intelligence service circuit is open");
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            circuitBreaker.releasePermission(permit);
+            recordCall("stream", "rejected", start);
+            throw new IntelligenceUnavailableException("Too many concurrent intelligence calls");
+        }
+        try {
+            String reply = fetchStreamedResponse(content, onToken);
+            circuitBreaker.onSuccess(permit);
+            recordCall("stream", "success", start);
+            return reply;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(permit);
+            recordCall("stream", "error", start);
+            throw new IntelligenceUnavailableException("Intelligence service stream failed", e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private String fetchStreamedResponse(String content, Consumer<String> onToken) {
+        return restTemplate.execute(baseUrl + STREAM_AGENT_RESPONSE_PATH, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON));
+                    objectMapper.writeValue(request.getBody(), buildRequestBody(content));
+                },
+                response -> {
+                    StringBuilder reply = new StringBuilder();
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        JsonNode chunk = objectMapper.readTree(line);
+                        String token = chunk.path("token").asText("");
+                        if (!token.isEmpty()) {
+                            reply.append(token);
+                            onToken.accept(token);
+                        }
+                    }
+                    return reply.toString();
+                });
+    }
+
+    private Map<String, Object> buildRequestBody(String content) {
+        Map<String, Object> message = Map.of(
+                "content", content,
+                "sender", "human"
+        );
+        return Map.of(
+                "messages", List.of(message)
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.server.client;
+
+// The agent could not answer: circuit open, bulkhead full, deadline passed or the call failed
+public class IntelligenceUnavailableException extends RuntimeException {
+    public IntelligenceUnavailableException(String message) {
+        super(message);
+    }
+
+    public IntelligenceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.server.config;
+
+import com.example.server.util.StatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${chat.executor.core-size:8}")
+    private int coreSize;
+
+    @Value("${chat.executor.max-size:32}")
+    private int maxSize;
+
+    @Value("${chat.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    // Dedicated pool for chat round trips so slow LLM replies never hold Tomcat request threads
+    @Bean(name = "chatExecutor")
+    public Executor chatExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-");
+        executor.setTaskDecorator(StatementCounter::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${intelligence.resilience.max-concurrent:16}")
+    private int intelligenceMaxConcurrent;
+
+    // Runs outbound agent calls so callers can stop waiting at their deadline; the bulkhead caps
+    // how many are in flight, the queue only absorbs the moment between a release and a thread returning
+    @Bean(name = "intelligenceExecutor")
+    public Executor intelligenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(intelligenceMaxConcurrent);
+        executor.setMaxPoolSize(intelligenceMaxConcurrent);
+        executor.setQueueCapacity(intelligenceMaxConcurrent);
+        executor.setThreadNamePrefix("intelligence-");
+        executor.setTaskDecorator(StatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    // Virtual threads for fanning out blocking reads; each dashboard forks a fixed four branches, one query each
+    @Bean(name = "dashboardExecutor")
+    public AsyncTaskExecutor dashboardExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(task -> StatementCounter.propagate(ReplicaRoutingDataSource.propagatePin(task)));
+        return executor;
+    }
+
+    // One short-lived virtual thread per subscriber with queued comments; a send blocked on a slow
+    // client parks only that thread
+    @Bean(name = "commentStreamExecutor")
+    public AsyncTaskExecutor commentStreamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("comment-stream-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
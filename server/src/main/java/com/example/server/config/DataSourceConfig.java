@@ -0,0 +1,56 @@
+package com.example.server.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Writes go to the primary; read-only transactions (readOnly service methods and Spring Data's
+ * read methods) go to the read replica when one is configured. The lazy proxy only picks the
+ * target at the first statement, after the transaction manager has marked the connection read-only.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${app.datasource.replica.read-your-writes-window:5s}")
+    private Duration readYourWritesWindow;
+
+    // The pool Boot would otherwise create from spring.datasource.*; migrations always run on it
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplica readReplica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        if (readReplica.isConfigured()) {
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, readReplica));
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplica readReplica) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesWindow));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(readReplica.isConfigured());
+        return registration;
+    }
+}
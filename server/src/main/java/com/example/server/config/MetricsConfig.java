@@ -0,0 +1,72 @@
+package com.example.server.config;
+
+import com.example.server.service.impl.ChatAnswerCache;
+import com.example.server.service.impl.CommentBroadcaster;
+import com.example.server.service.impl.ImageVariantCache;
+import com.example.server.util.StatementCounter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Value("${observability.statements.log-threshold:25}")
+    private int statementLogThreshold;
+
+    @Value("${observability.statements.sample-rate:0.01}")
+    private double statementSampleRate;
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementMetricsFilter> statementMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementMetricsFilter> registration = new FilterRegistrationBean<>(
+                new StatementMetricsFilter(meterRegistry, statementLogThreshold, statementSampleRate));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder chatAnswerCacheMetrics(ChatAnswerCache chatAnswerCache) {
+        return registry -> {
+            FunctionCounter.builder("chat.answer.cache.requests", chatAnswerCache, cache -> cache.stats().getHits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("chat.answer.cache.requests", chatAnswerCache, cache -> cache.stats().getMisses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("chat.answer.cache.evictions", chatAnswerCache, cache -> cache.stats().getEvictions())
+                    .register(registry);
+            Gauge.builder("chat.answer.cache.size", chatAnswerCache, cache -> cache.stats().getSize())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder commentStreamMetrics(CommentBroadcaster commentBroadcaster) {
+        return registry -> {
+            Gauge.builder("comments.stream.subscribers", commentBroadcaster, CommentBroadcaster::getSubscriberCount)
+                    .register(registry);
+            FunctionCounter.builder("comments.stream.evictions", commentBroadcaster, CommentBroadcaster::getEvictions)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder imageVariantCacheMetrics(ImageVariantCache imageVariantCache) {
+        return registry -> Gauge.builder("images.cache.size", imageVariantCache, ImageVariantCache::getTotalBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
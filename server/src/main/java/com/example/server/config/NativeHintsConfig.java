@@ -0,0 +1,35 @@
+package com.example.server.config;
+
+import com.example.server.dto.CommentResponseDTO;
+import com.example.server.dto.CultivationDTO;
+import com.example.server.dto.FertilizerLogDTO;
+import com.example.server.dto.MessageResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints the AOT engine cannot infer, used by the native image build
+ * (mvn -Pnative native:compile).
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Instantiated by Hibernate from "select new ..." JPQL projections
+            for (Class<?> projection : new Class<?>[]{CommentResponseDTO.class, CultivationDTO.class,
+                    FertilizerLogDTO.class, MessageResponseDTO.class, NewsSummaryDTO.class}) {
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            // recommendation.fertilizer.model
+            hints.resources().registerPattern("models/*.json");
+        }
+    }
+}
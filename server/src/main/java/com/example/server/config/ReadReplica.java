@@ -0,0 +1,112 @@
+package com.example.server.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Connection pool for the optional read replica (app.datasource.replica.url) and its replication lag.
+ * The lag is polled in the background; while it exceeds the tolerance, or the replica cannot be
+ * reached, read-only transactions go to the primary instead.
+ */
+@Slf4j
+@Component
+public class ReadReplica {
+
+    // Zero when the replica has replayed everything it received, otherwise the age of the last replayed commit
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() IS NOT NULL AND pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration maxLag;
+    private volatile long lagMillis;
+    private volatile boolean reachable;
+
+    public ReadReplica(MeterRegistry meterRegistry,
+                       @Value("${app.datasource.replica.url:}") String url,
+                       @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                       @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                       @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                       @Value("${app.datasource.replica.max-lag:2s}") Duration maxLag) {
+        this.maxLag = maxLag;
+        if (!StringUtils.hasText(url)) {
+            this.dataSource = null;
+            this.jdbcTemplate = null;
+            return;
+        }
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica");
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setReadOnly(true);
+        // Fail the lag check instead of the first request when the replica is down at startup
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        this.dataSource = pool;
+        this.jdbcTemplate = new JdbcTemplate(pool);
+        Gauge.builder("db.replica.lag", this, replica -> replica.lagMillis / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.in.use", this, replica -> replica.isUsable() ? 1 : 0)
+                .register(meterRegistry);
+        checkLag();
+    }
+
+    public boolean isConfigured() {
+        return dataSource != null;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isUsable() {
+        return dataSource != null && reachable && lagMillis <= maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        if (dataSource == null) {
+            return;
+        }
+        boolean wasUsable = isUsable();
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagMillis = lag != null ? lag.longValue() : 0;
+            reachable = true;
+        } catch (DataAccessException e) {
+            reachable = false;
+            log.debug("Replica lag check failed", e);
+        }
+        if (wasUsable != isUsable()) {
+            log.warn("Read replica {} (reachable={}, lag={} ms, tolerance={} ms)",
+                    isUsable() ? "back in use" : "bypassed", reachable, lagMillis, maxLag.toMillis());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.server.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a client's reads on the primary for a while after it wrote, so a comment or log it just
+ * created is visible on its next read even if the replica has not replayed it yet. Clients are
+ * identified by the X-User-Id header when sent, otherwise by their address.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String USER_HEADER = "X-User-Id";
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientKey(request);
+        boolean write = isWrite(request);
+        long now = System.nanoTime();
+        Long until = pinnedUntil.get(client);
+        if (write || (until != null && until - now > 0)) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearPin();
+            if (write && response.getStatus() < 400) {
+                if (pinnedUntil.size() >= MAX_TRACKED_CLIENTS) {
+                    long current = System.nanoTime();
+                    pinnedUntil.values().removeIf(expiry -> expiry - current <= 0);
+                }
+                pinnedUntil.put(client, System.nanoTime() + windowNanos);
+            } else if (until != null && until - now <= 0) {
+                pinnedUntil.remove(client, until);
+            }
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String userId = request.getHeader(USER_HEADER);
+        return StringUtils.hasText(userId) ? "user:" + userId : "addr:" + request.getRemoteAddr();
+    }
+}
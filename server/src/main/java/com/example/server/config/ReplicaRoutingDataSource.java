@@ -0,0 +1,54 @@
+package com.example.server.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Source of read-only connections: the replica, unless it is lagging or unreachable, or the current
+ * request is pinned to the primary so its client reads its own writes.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final ReadReplica readReplica;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReadReplica readReplica) {
+        this.readReplica = readReplica;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, readReplica.getDataSource()));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clearPin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    // Carries the caller's pin over to work handed to another thread
+    public static Runnable propagatePin(Runnable task) {
+        if (PINNED_TO_PRIMARY.get() == null) {
+            return task;
+        }
+        return () -> {
+            pinToPrimary();
+            try {
+                task.run();
+            } finally {
+                clearPin();
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PINNED_TO_PRIMARY.get() == null && readReplica.isUsable() ? REPLICA : PRIMARY;
+    }
+}
@@ -1,13 +1,110 @@
 package com.example.server.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
+
+    @Value("${intelligence.pool.max-total:50}")
+    private int maxTotal;
+
+    @Value("${intelligence.pool.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${intelligence.pool.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${intelligence.timeout.connect:3s}")
+    private Duration connectTimeout;
+
+    @Value("${intelligence.timeout.pool-acquire:2s}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${intelligence.timeout.read:30s}")
+    private Duration readTimeout;
+
+    // Pooled keep-alive client so chat calls reuse TLS connections to the intelligence service
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    @Value("${images.fetch.max-connections:8}")
+    private int imageMaxConnections;
+
+    @Value("${images.fetch.connect-timeout:2s}")
+    private Duration imageConnectTimeout;
+
+    @Value("${images.fetch.read-timeout:5s}")
+    private Duration imageReadTimeout;
+
+    // Built from the auto-configured builder so outbound calls show up in http.client.requests
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder, @Qualifier("httpClient") CloseableHttpClient httpClient) {
+        // Timeouts set on the factory are applied to every request it creates
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectTimeout(connectTimeout);
+        factory.setConnectionRequestTimeout(poolAcquireTimeout);
+        factory.setReadTimeout(readTimeout);
+        return builder.requestFactory(() -> factory).build();
+    }
+
+    // Remote image sources get their own small pool and short timeouts, so a slow image host cannot
+    // tie up connections meant for chat. Redirects are not followed: they could leave images.allowed-hosts
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient imageHttpClient() {
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(imageMaxConnections)
+                        .setMaxConnPerRoute(imageMaxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(imageConnectTimeout))
+                                .setSocketTimeout(Timeout.of(imageReadTimeout))
+                                .build())
+                        .build())
+                .disableRedirectHandling()
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate imageRestTemplate(RestTemplateBuilder builder,
+                                          @Qualifier("imageHttpClient") CloseableHttpClient imageHttpClient) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(imageHttpClient);
+        factory.setConnectTimeout(imageConnectTimeout);
+        factory.setConnectionRequestTimeout(imageConnectTimeout);
+        factory.setReadTimeout(imageReadTimeout);
+        return builder.requestFactory(() -> factory).build();
     }
 }
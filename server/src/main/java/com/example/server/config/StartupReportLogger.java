@@ -0,0 +1,50 @@
+package com.example.server.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs the slowest startup steps (bean instantiations, context phases) once the application is
+ * ready. Only active when ServerApplication was started with STARTUP_REPORT=true, which installs
+ * the buffering startup recorder; durations include the steps nested inside each one.
+ */
+@Slf4j
+@Component
+public class StartupReportLogger {
+
+    private static final int REPORTED_STEPS = 25;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            log.info("Ready in {} ms; slowest startup steps:\n{}",
+                    event.getTimeTaken().toMillis(), format(startup.getBufferedTimeline(), REPORTED_STEPS));
+        }
+    }
+
+    public static String format(StartupTimeline timeline, int limit) {
+        return timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .map(event -> String.format("%6d ms  %s%s", event.getDuration().toMillis(),
+                        event.getStartupStep().getName(), tags(event.getStartupStep())))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String tags(StartupStep step) {
+        List<String> tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .toList();
+        return tags.isEmpty() ? "" : " " + tags;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.server.config;
+
+import com.example.server.util.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records how many SQL statements each request ran, per route, and logs a structured line
+ * (key=value) for requests over the threshold plus a small random sample of the rest.
+ */
+@Slf4j
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int logThreshold;
+    private final double sampleRate;
+
+    public StatementMetricsFilter(MeterRegistry meterRegistry, int logThreshold, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.logThreshold = logThreshold;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("http.server.statements")
+                    .description("SQL statements executed per request")
+                    .serviceLevelObjectives(1, 2, 5, 10, 25, 50, 100)
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            if (statements >= logThreshold || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("request-statements method={} uri={} status={} statements={} durationMs={}",
+                        request.getMethod(), uri, response.getStatus(), statements,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+}
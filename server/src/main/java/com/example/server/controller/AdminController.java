@@ -0,0 +1,27 @@
+package com.example.server.controller;
+
+import com.example.server.dto.ChatAnswerCacheStatsDTO;
+import com.example.server.service.MessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final MessageService messageService;
+
+    @GetMapping("/chat-cache")
+    public ResponseEntity<ChatAnswerCacheStatsDTO> getChatCacheStats() {
+        return ResponseEntity.ok(messageService.getAnswerCacheStats());
+    }
+
+    // Drops one question when given, otherwise the whole cache
+    @DeleteMapping("/chat-cache")
+    public ResponseEntity<Void> invalidateChatCache(@RequestParam(required = false) String question) {
+        messageService.invalidateAnswerCache(question);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.server.controller;
+
+import com.example.server.dto.FertilizerUsageDTO;
+import com.example.server.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    // e.g. ?groupBy=crop,month,location&from=2025-01&to=2025-06
+    @GetMapping("/fertilizer-usage")
+    public ResponseEntity<List<FertilizerUsageDTO>> getFertilizerUsage(
+            @RequestParam(defaultValue = "crop,month,location") List<String> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(analyticsService.getFertilizerUsage(groupBy, from, to));
+    }
+}
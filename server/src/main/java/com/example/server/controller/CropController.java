@@ -0,0 +1,39 @@
+package com.example.server.controller;
+
+import com.example.server.dto.CatalogSnapshotDTO;
+import com.example.server.dto.CropDTO;
+import com.example.server.service.CropService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/crops")
+@RequiredArgsConstructor
+public class CropController {
+
+    private final CropService cropService;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getAllCrops(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                              WebRequest request) {
+        CatalogSnapshotDTO catalog = cropService.getCropCatalog(accept);
+        if (request.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(catalog.getContentType())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(catalog.getEtag())
+                .body(catalog.getBody());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CropDTO> getCropById(@PathVariable Long id) {
+        return ResponseEntity.ok(cropService.getCropById(id));
+    }
+}
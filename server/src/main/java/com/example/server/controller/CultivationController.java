@@ -1,7 +1,7 @@
 package com.example.server.controller;
 
 import com.example.server.dto.CultivationDTO;
-import com.example.server.model.Cultivation;
+import com.example.server.dto.CultivationDetailDTO;
 import com.example.server.service.CultivationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,8 +28,9 @@ public class CultivationController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Cultivation> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(cultivationService.getCultivationById(id));
+    public ResponseEntity<CultivationDetailDTO> getById(@PathVariable Long id,
+                                                        @RequestParam(required = false) Integer logLimit) {
+        return ResponseEntity.ok(cultivationService.getCultivationDetail(id, logLimit));
     }
 }
 
@@ -0,0 +1,21 @@
+package com.example.server.controller;
+
+import com.example.server.dto.UserDashboardDTO;
+import com.example.server.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // Everything the app shows on launch in one round trip
+    @GetMapping("/{userId}/dashboard")
+    public ResponseEntity<UserDashboardDTO> getDashboard(@PathVariable String userId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userId));
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.server.controller;
 
+import com.example.server.dto.CatalogSnapshotDTO;
 import com.example.server.dto.FertilizerDTO;
 import com.example.server.service.FertilizerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/fertilizers")
@@ -16,9 +18,19 @@ public class FertilizerController {
     private final FertilizerService fertilizerService;
 
     @GetMapping
-    public ResponseEntity<List<FertilizerDTO>> getAllFertilizers() {
-        List<FertilizerDTO> fertilizers = fertilizerService.getAllFertilizers();
-        return ResponseEntity.ok(fertilizers);
+    public ResponseEntity<byte[]> getAllFertilizers(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                    WebRequest request) {
+        // Served from the pre-serialized snapshot; clients revalidate with If-None-Match
+        CatalogSnapshotDTO catalog = fertilizerService.getFertilizerCatalog(accept);
+        if (request.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(catalog.getContentType())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(catalog.getEtag())
+                .body(catalog.getBody());
     }
 
     @GetMapping("/{id}")
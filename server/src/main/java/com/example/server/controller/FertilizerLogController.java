@@ -1,5 +1,6 @@
 package com.example.server.controller;
 
+import com.example.server.dto.BulkImportResultDTO;
 import com.example.server.dto.FertilizerLogDTO;
 import com.example.server.model.Cultivation;
 import com.example.server.model.Fertilizer;
@@ -8,10 +9,16 @@ import com.example.server.service.FertilizerLogService;
 import com.example.server.service.impl.FertilizerLogServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,8 +29,11 @@ public class FertilizerLogController {
     private final FertilizerLogService fertilizerLogService;
 
     @GetMapping("/{cultivationId}")
-    public ResponseEntity<List<FertilizerLogDTO>> getByUserId(@PathVariable Long cultivationId) {
-        return ResponseEntity.ok(fertilizerLogService.getFertilizerLogByCultivationId(cultivationId));
+    public ResponseEntity<List<FertilizerLogDTO>> getByUserId(
+            @PathVariable Long cultivationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(fertilizerLogService.getFertilizerLogByCultivationId(cultivationId, from, to));
     }
     @PostMapping
     public ResponseEntity<Long> createFertilizerLog(@RequestBody FertilizerLogDTO dto) {
@@ -31,6 +41,23 @@ public class FertilizerLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(id);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> createFertilizerLogs(@RequestBody List<FertilizerLogDTO> dtos) {
+        return ResponseEntity.ok(fertilizerLogService.createFertilizerLogs(dtos));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResultDTO> importFertilizerLogsCsv(InputStream body) {
+        return ResponseEntity.ok(fertilizerLogService.importFertilizerLogsCsv(body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkImportResultDTO> uploadFertilizerLogsCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(fertilizerLogService.importFertilizerLogsCsv(in));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFertilizerLog(@PathVariable Long id) {
         fertilizerLogService.deleteFertilizerLog(id);
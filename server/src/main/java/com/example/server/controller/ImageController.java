@@ -0,0 +1,58 @@
+package com.example.server.controller;
+
+import com.example.server.dto.ImageVariantDTO;
+import com.example.server.service.ImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageService imageService;
+
+    @Value("${images.max-age:7d}")
+    private Duration maxAge;
+
+    // GET an image at the nearest configured width (w) as jpeg or png; type is news, fertilizers or crops
+    @GetMapping("/{type}/{id}")
+    public void getImage(@PathVariable String type,
+                         @PathVariable Long id,
+                         @RequestParam(required = false) Integer w,
+                         @RequestParam(required = false) String format,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        ImageVariantDTO image = imageService.getImage(type, id, w, format);
+        // Streamed from the channel the cache opened, not handed to Tomcat's sendfile by path: sendfile opens
+        // the file after this method returns, when an eviction may already have removed it
+        try (FileChannel file = image.getChannel()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(maxAge).cachePublic().getHeaderValue());
+            if (new ServletWebRequest(request, response).checkNotModified(image.getEtag())) {
+                return;
+            }
+            response.setContentType(image.getContentType().toString());
+            response.setContentLengthLong(image.getLength());
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            long sent;
+            while (position < image.getLength()
+                    && (sent = file.transferTo(position, image.getLength() - position, out)) > 0) {
+                position += sent;
+            }
+        }
+    }
+}
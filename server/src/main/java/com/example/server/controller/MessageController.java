@@ -1,14 +1,18 @@
 package com.example.server.controller;
 
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.MessageRequestDTO;
 import com.example.server.dto.MessageResponseDTO;
 import com.example.server.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/messages")
@@ -19,12 +23,30 @@ public class MessageController {
     private final MessageService messageService;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<List<MessageResponseDTO>> getMessages(@PathVariable String userId) {
-        return ResponseEntity.ok(messageService.getMessagesByUserId(userId));
+    public ResponseEntity<List<MessageResponseDTO>> getMessages(@PathVariable String userId,
+                                                                @RequestParam(required = false) String before,
+                                                                @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<MessageResponseDTO> page = messageService.getMessagesByUserId(userId, before, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @PostMapping("/send")
-    public ResponseEntity<MessageResponseDTO> handleMessage(@RequestBody MessageRequestDTO requestDTO) {
-        return ResponseEntity.ok(messageService.handleMessage(requestDTO));
+    public CompletableFuture<ResponseEntity<MessageResponseDTO>> handleMessage(@RequestBody MessageRequestDTO requestDTO) {
+        return messageService.handleMessage(requestDTO).thenApply(ResponseEntity::ok);
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(@RequestBody MessageRequestDTO requestDTO) {
+        return messageService.streamMessage(requestDTO);
+    }
+
+    // GET variant so browser EventSource clients can subscribe too
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(@RequestParam String userId, @RequestParam String content) {
+        return messageService.streamMessage(new MessageRequestDTO(userId, content));
+    }
+}
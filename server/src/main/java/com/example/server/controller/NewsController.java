@@ -2,14 +2,18 @@ package com.example.server.controller;
 
 import com.example.server.dto.CommentRequestDTO;
 import com.example.server.dto.CommentResponseDTO;
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.NewsResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
 import com.example.server.service.CommentService;
 import com.example.server.service.NewsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,22 +27,41 @@ public class NewsController {
     @Autowired
     private final CommentService commentService;
 
-    // GET all news
+    // GET news feed (summaries, newest first)
     @GetMapping
-    public ResponseEntity<List<NewsResponseDTO>> getAllNews() {
-        return ResponseEntity.ok(newsService.getAllNews());
+    public ResponseEntity<List<NewsSummaryDTO>> getNewsFeed(@RequestParam(required = false) String before,
+                                                            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<NewsSummaryDTO> page = newsService.getNewsFeed(before, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
-    // GET single news
+    // GET single news (full body)
     @GetMapping("/{id}")
     public ResponseEntity<NewsResponseDTO> getNewsById(@PathVariable Long id) {
         return ResponseEntity.ok(newsService.getNewsById(id));
     }
 
-    // GET all comments by newsId
+    // GET comments by newsId (newest first)
     @GetMapping("/{newsId}/comments")
-    public ResponseEntity<List<CommentResponseDTO>> getCommentsByNewsId(@PathVariable Long newsId) {
-        return ResponseEntity.ok(commentService.getCommentsByNewsId(newsId));
+    public ResponseEntity<List<CommentResponseDTO>> getCommentsByNewsId(@PathVariable Long newsId,
+                                                                        @RequestParam(required = false) String before,
+                                                                        @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<CommentResponseDTO> page = commentService.getCommentsByNewsId(newsId, before, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    // Subscribe to new comments on a news thread; each arrives as a "comment" event once committed
+    @GetMapping(value = "/{newsId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long newsId) {
+        return commentService.streamComments(newsId);
     }
 
     // POST a comment
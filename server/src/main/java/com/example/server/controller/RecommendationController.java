@@ -0,0 +1,29 @@
+package com.example.server.controller;
+
+import com.example.server.dto.FertilizerRecommendationDTO;
+import com.example.server.dto.FertilizerRecommendationRequestDTO;
+import com.example.server.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    @PostMapping("/fertilizer")
+    public ResponseEntity<FertilizerRecommendationDTO> recommendFertilizer(@RequestBody FertilizerRecommendationRequestDTO request) {
+        return ResponseEntity.ok(recommendationService.recommendFertilizer(request));
+    }
+
+    // Scores many soil readings in one call
+    @PostMapping("/fertilizer/batch")
+    public ResponseEntity<List<FertilizerRecommendationDTO>> recommendFertilizers(@RequestBody List<FertilizerRecommendationRequestDTO> requests) {
+        return ResponseEntity.ok(recommendationService.recommendFertilizers(requests));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.server.controller;
+
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.dto.SearchHitDTO;
+import com.example.server.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // Ranked hits across news, fertilizers and crops; follow X-Next-Cursor with ?after= for the next page
+    @GetMapping
+    public ResponseEntity<List<SearchHitDTO>> search(@RequestParam String q,
+                                                     @RequestParam(required = false) String after,
+                                                     @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<SearchHitDTO> page = searchService.search(q, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportErrorDTO {
+    private int row;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResultDTO {
+    private int received;
+    private int inserted;
+    private List<BulkImportErrorDTO> errors;
+}
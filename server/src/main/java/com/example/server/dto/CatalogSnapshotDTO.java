@@ -0,0 +1,18 @@
+package com.example.server.dto;
+
+import lombok.*;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class CatalogSnapshotDTO {
+    // Serialized catalog in contentType, written to the response as-is
+    private final byte[] body;
+    private final MediaType contentType;
+    // Weak ETag derived from the body, so every instance serves the same tag for the same catalog and
+    // Tomcat may still gzip the response (it leaves strong-ETag responses uncompressed)
+    private final String etag;
+    private final Instant builtAt;
+}
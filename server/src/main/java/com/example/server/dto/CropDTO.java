@@ -0,0 +1,16 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CropDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private String imgPath;
+}
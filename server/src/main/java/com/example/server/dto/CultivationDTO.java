@@ -9,9 +9,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class CultivationDTO {
+    private Long id;
     private String soilType;
     private Double landArea;
     private String location;
     private Long cropId;
+    private String cropName;
+    private String cropImgPath;
     private String userId;
 }
@@ -0,0 +1,24 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CultivationDetailDTO {
+    private Long id;
+    private String soilType;
+    private Double landArea;
+    private String location;
+    private String userId;
+    private Long cropId;
+    private String cropName;
+    private String cropImgPath;
+    // Most recent applications only, newest first
+    private List<FertilizerLogDTO> recentLogs;
+}
@@ -0,0 +1,12 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FertilizerChoiceDTO {
+    private String fertilizer;
+    private Double confidence;
+}
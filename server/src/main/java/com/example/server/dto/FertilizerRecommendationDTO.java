@@ -0,0 +1,17 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FertilizerRecommendationDTO {
+    private String fertilizer;
+    private Double confidence;
+    private List<FertilizerChoiceDTO> topChoices;
+}
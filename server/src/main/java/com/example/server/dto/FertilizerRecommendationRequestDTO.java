@@ -0,0 +1,22 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FertilizerRecommendationRequestDTO {
+    private Double temperature;
+    private Double moisture;
+    private Double rainfall;
+    private Double ph;
+    private Double nitrogen;
+    private Double phosphorous;
+    private Double potassium;
+    private Double carbon;
+    private String soil;
+    private String crop;
+}
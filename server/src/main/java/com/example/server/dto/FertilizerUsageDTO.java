@@ -0,0 +1,22 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.time.YearMonth;
+
+// Dimensions that were not grouped by are left null
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FertilizerUsageDTO {
+    private Long fertilizerId;
+    private String fertilizerName;
+    private Long cropId;
+    private String cropName;
+    private YearMonth month;
+    private String location;
+    private Long logCount;
+}
@@ -0,0 +1,17 @@
+package com.example.server.dto;
+
+import lombok.*;
+import org.springframework.http.MediaType;
+
+import java.nio.channels.FileChannel;
+
+@Getter
+@AllArgsConstructor
+public class ImageVariantDTO {
+    // Open on the resized file in the on-disk variant cache; whoever serves it closes it
+    private final FileChannel channel;
+    private final long length;
+    private final MediaType contentType;
+    // Strong ETag derived from the source image, its version and the variant parameters
+    private final String etag;
+}
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class MessageResponseDTO {
+    private Long id;
     private Boolean isBot;
     private String userId;
     private String content;
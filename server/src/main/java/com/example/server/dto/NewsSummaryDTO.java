@@ -0,0 +1,20 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsSummaryDTO {
+    private Long id;
+    private String title;
+    private String imagePath;
+    private LocalDateTime timestamp;
+    private String author;
+    private Long commentCount;
+}
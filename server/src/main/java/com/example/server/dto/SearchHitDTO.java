@@ -0,0 +1,18 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+// title and snippet mark matched words with <b></b>
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitDTO {
+    private String type;
+    private Long id;
+    private String title;
+    private String snippet;
+    private Double rank;
+}
@@ -0,0 +1,22 @@
+package com.example.server.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDashboardDTO {
+    private String userId;
+    // Each with its most recent fertilizer logs
+    private List<CultivationDetailDTO> cultivations;
+    private CursorPageDTO<MessageResponseDTO> messages;
+    private CursorPageDTO<NewsSummaryDTO> news;
+    // Sections that failed or missed the deadline ("cultivations", "fertilizerLogs", "messages", "news");
+    // a missing section is null, a cultivation whose logs are missing has null recentLogs
+    private List<String> incomplete;
+}
@@ -0,0 +1,174 @@
+package com.example.server.ml;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fertilizer decision tree exported from scikit-learn, flattened into primitive arrays.
+ * Scoring walks the arrays without allocating, so a prediction costs a handful of comparisons.
+ */
+public final class FertilizerDecisionTree {
+
+    // Order of the numeric features expected by the exported tree
+    public static final List<String> NUMERIC_FEATURES = List.of(
+            "Temperature", "Moisture", "Rainfall", "PH", "Nitrogen", "Phosphorous", "Potassium", "Carbon");
+
+    private static final String SOIL_PREFIX = "Soil_";
+    private static final String CROP_PREFIX = "Crop_";
+    private static final int LEAF = -1;
+    public static final int TOP_CHOICES = 3;
+
+    private final int[] left;
+    private final int[] right;
+    private final int[] feature;
+    private final double[] threshold;
+    // Leaf class probabilities, row-major: node * classCount + class
+    private final double[] probability;
+    // Best classes per node, precomputed so no sorting happens at request time
+    private final int[] topClasses;
+
+    @Getter
+    private final String[] classes;
+    private final int classCount;
+    // TOP_CHOICES, or fewer when the model has fewer classes
+    @Getter
+    private final int topChoiceCount;
+    private final int soilOffset;
+    private final int cropOffset;
+    private final Map<String, Integer> soilIndex = new HashMap<>();
+    private final Map<String, Integer> cropIndex = new HashMap<>();
+
+    private FertilizerDecisionTree(TreeExport export) {
+        int nodeCount = export.left().length;
+        this.left = export.left();
+        this.right = export.right();
+        this.feature = export.feature();
+        this.threshold = export.threshold();
+        this.classes = export.classes().toArray(String[]::new);
+        this.classCount = classes.length;
+        this.topChoiceCount = Math.min(TOP_CHOICES, classCount);
+
+        List<String> features = export.features();
+        if (!features.subList(0, NUMERIC_FEATURES.size()).equals(NUMERIC_FEATURES)) {
+            throw new IllegalStateException("Unexpected numeric feature order in tree export: " + features);
+        }
+        this.soilOffset = NUMERIC_FEATURES.size();
+        int firstCrop = soilOffset;
+        for (int i = soilOffset; i < features.size(); i++) {
+            String name = features.get(i);
+            if (name.startsWith(SOIL_PREFIX)) {
+                soilIndex.put(name.substring(SOIL_PREFIX.length()), i - soilOffset);
+                firstCrop = i + 1;
+            }
+        }
+        this.cropOffset = firstCrop;
+        for (int i = cropOffset; i < features.size(); i++) {
+            String name = features.get(i);
+            if (!name.startsWith(CROP_PREFIX)) {
+                throw new IllegalStateException("Unexpected feature in tree export: " + name);
+            }
+            cropIndex.put(name.substring(CROP_PREFIX.length()), i - cropOffset);
+        }
+
+        this.probability = new double[nodeCount * classCount];
+        this.topClasses = new int[nodeCount * topChoiceCount];
+        for (int node = 0; node < nodeCount; node++) {
+            double[] row = export.value()[node];
+            System.arraycopy(row, 0, probability, node * classCount, classCount);
+            rankClasses(node);
+        }
+    }
+
+    public static FertilizerDecisionTree load(InputStream in, ObjectMapper objectMapper) throws IOException {
+        return new FertilizerDecisionTree(objectMapper.readValue(in, TreeExport.class));
+    }
+
+    /** Index of a soil type, or -1 if the model does not know it. */
+    public int soilIndexOf(String soil) {
+        return soil == null ? -1 : soilIndex.getOrDefault(soil, -1);
+    }
+
+    /** Index of a crop type, or -1 if the model does not know it. */
+    public int cropIndexOf(String crop) {
+        return crop == null ? -1 : cropIndex.getOrDefault(crop, -1);
+    }
+
+    /**
+     * Walks the tree and returns the leaf node. Numeric features are passed in training order
+     * (see {@link #NUMERIC_FEATURES}); soil and crop are one-hot indexes.
+     */
+    public int leaf(double temperature, double moisture, double rainfall, double ph,
+                    double nitrogen, double phosphorous, double potassium, double carbon,
+                    int soil, int crop) {
+        int node = 0;
+        while (left[node] != LEAF) {
+            int f = feature[node];
+            double x;
+            if (f < soilOffset) {
+                x = switch (f) {
+                    case 0 -> temperature;
+                    case 1 -> moisture;
+                    case 2 -> rainfall;
+                    case 3 -> ph;
+                    case 4 -> nitrogen;
+                    case 5 -> phosphorous;
+                    case 6 -> potassium;
+                    default -> carbon;
+                };
+                // scikit-learn compares features as float32
+                x = (float) x;
+            } else if (f < cropOffset) {
+                x = (f - soilOffset == soil) ? 1.0 : 0.0;
+            } else {
+                x = (f - cropOffset == crop) ? 1.0 : 0.0;
+            }
+            node = x <= threshold[node] ? left[node] : right[node];
+        }
+        return node;
+    }
+
+    /** The rank-th most likely class at a leaf (rank 0 is the prediction), for rank below {@link #getTopChoiceCount()}. */
+    public int topClass(int leaf, int rank) {
+        return topClasses[leaf * topChoiceCount + rank];
+    }
+
+    public double probability(int leaf, int classIndex) {
+        return probability[leaf * classCount + classIndex];
+    }
+
+    private void rankClasses(int node) {
+        int base = node * classCount;
+        for (int rank = 0; rank < topChoiceCount; rank++) {
+            int best = -1;
+            for (int c = 0; c < classCount; c++) {
+                if (isRanked(node, rank, c)) {
+                    continue;
+                }
+                // Ties go to the lowest class index, matching numpy argmax
+                if (best == -1 || probability[base + c] > probability[base + best]) {
+                    best = c;
+                }
+            }
+            topClasses[node * topChoiceCount + rank] = best;
+        }
+    }
+
+    private boolean isRanked(int node, int upTo, int classIndex) {
+        for (int rank = 0; rank < upTo; rank++) {
+            if (topClasses[node * topChoiceCount + rank] == classIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record TreeExport(String source, List<String> features, List<String> classes, int[] left, int[] right,
+                              int[] feature, double[] threshold, double[][] value) {
+    }
+}
@@ -23,5 +23,7 @@ public class Crop {
     private String imgPath;
 
     @OneToMany(mappedBy = "crop", cascade = CascadeType.ALL)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Cultivation> cultivations;
 }
@@ -24,10 +24,14 @@ public class Cultivation {
     private String location;
     private String userId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "crop_id")
     private Crop crop;
 
     @OneToMany(mappedBy = "cultivation", cascade = CascadeType.ALL)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<FertilizerLog> fertilizerLogs;
 }
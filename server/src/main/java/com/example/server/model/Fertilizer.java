@@ -25,5 +25,7 @@ public class Fertilizer {
     private String percentage;
 
     @OneToMany(mappedBy = "fertilizer", cascade = CascadeType.ALL)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<FertilizerLog> fertilizerLogs;
 }
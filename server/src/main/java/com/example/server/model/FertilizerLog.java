@@ -15,16 +15,21 @@ import java.time.LocalDateTime;
 public class FertilizerLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fertilizer_log_seq")
+    @SequenceGenerator(name = "fertilizer_log_seq", sequenceName = "fertilizer_log_seq", allocationSize = 50)
     private Long id;
 
     private LocalDateTime timestamp;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "cultivation_id")
     private Cultivation cultivation;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "fertilizer_id")
     private Fertilizer fertilizer;
 }
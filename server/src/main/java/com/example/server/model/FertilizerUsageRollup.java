@@ -0,0 +1,41 @@
+package com.example.server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// Log counts per crop, month, location and fertilizer; kept current by FertilizerUsageRollupUpdater
+@Entity
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_fertilizer_usage_rollup_key",
+                columnNames = {"crop_id", "usage_month", "location", "fertilizer_id"}))
+public class FertilizerUsageRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "crop_id", nullable = false)
+    private Long cropId;
+
+    // First day of the month
+    @Column(name = "usage_month", nullable = false)
+    private LocalDate usageMonth;
+
+    // Empty when the cultivation has no location, so the unique key never contains NULL
+    @Column(nullable = false)
+    private String location;
+
+    @Column(name = "fertilizer_id", nullable = false)
+    private Long fertilizerId;
+
+    @Column(nullable = false)
+    private Long logCount;
+}
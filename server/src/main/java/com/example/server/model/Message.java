@@ -15,11 +15,13 @@ import java.time.LocalDateTime;
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_seq")
+    @SequenceGenerator(name = "message_seq", sequenceName = "message_seq", allocationSize = 50)
     private Long id;
 
     private Boolean isBot;
     private String userId;
+    @Column(columnDefinition = "TEXT")
     private String content;
     private LocalDateTime timestamp;
 }
@@ -25,6 +25,12 @@ public class News {
     private LocalDateTime timestamp;
     private String author;
 
+    // Maintained by CommentServiceImpl.createComment so the feed never counts comments
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "news", cascade = CascadeType.ALL)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Comment> comments;
 }
@@ -1,13 +1,30 @@
 package com.example.server.repository;
 
+import com.example.server.dto.CommentResponseDTO;
 import com.example.server.model.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByNewsId(Long newsId);
-}
 
+    // Newest first, served from idx_comment_news_timestamp (news_id, timestamp, id)
+    @Query("select new com.example.server.dto.CommentResponseDTO(c.id, c.content, c.userId, c.timestamp) " +
+            "from Comment c where c.news.id = :newsId " +
+            "order by c.timestamp desc, c.id desc")
+    List<CommentResponseDTO> findLatestByNewsId(@Param("newsId") Long newsId, Limit limit);
+
+    @Query("select new com.example.server.dto.CommentResponseDTO(c.id, c.content, c.userId, c.timestamp) " +
+            "from Comment c where c.news.id = :newsId and (c.timestamp, c.id) < (:timestamp, :id) " +
+            "order by c.timestamp desc, c.id desc")
+    List<CommentResponseDTO> findByNewsIdBefore(@Param("newsId") Long newsId,
+                                                @Param("timestamp") LocalDateTime timestamp,
+                                                @Param("id") Long id,
+                                                Limit limit);
+}
@@ -2,9 +2,16 @@ package com.example.server.repository;
 
 import com.example.server.model.Crop;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 @Repository
 public interface CropRepository extends JpaRepository<Crop, Long> {
+
+    // Empty when the crop does not exist or has no image
+    @Query("select c.imgPath from Crop c where c.id = :id")
+    Optional<String> findImgPathById(@Param("id") Long id);
 }
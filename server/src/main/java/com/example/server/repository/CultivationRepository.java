@@ -2,13 +2,22 @@ package com.example.server.repository;
 
 import com.example.server.dto.CultivationDTO;
 import com.example.server.model.Cultivation;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CultivationRepository extends JpaRepository<Cultivation, Long> {
-    List<Cultivation> findByUserId(String userId);
-}
 
+    @Query("select new com.example.server.dto.CultivationDTO(c.id, c.soilType, c.landArea, c.location, cr.id, cr.name, cr.imgPath, c.userId) " +
+            "from Cultivation c left join c.crop cr where c.userId = :userId order by c.id")
+    List<CultivationDTO> findDTOsByUserId(@Param("userId") String userId);
+
+    @EntityGraph(attributePaths = "crop")
+    Optional<Cultivation> findWithCropById(Long id);
+}
@@ -1,13 +1,39 @@
 package com.example.server.repository;
 
-import com.example.server.model.Cultivation;
+import com.example.server.dto.FertilizerLogDTO;
 import com.example.server.model.FertilizerLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface FertilizerLogRepository extends JpaRepository<FertilizerLog, Long> {
-    List<FertilizerLog> findByCultivationId(Long cultivationId);
+
+    // Open ends of an optional date range; both fit in a Postgres timestamp
+    LocalDateTime OPEN_START = LocalDateTime.of(1900, 1, 1, 0, 0);
+    LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // Single statement: the fertilizer is joined in, the cultivation id is read from the FK column
+    @Query("select new com.example.server.dto.FertilizerLogDTO(l.id, l.timestamp, l.cultivation.id, f.id, f.name) " +
+            "from FertilizerLog l join l.fertilizer f " +
+            "where l.cultivation.id = :cultivationId and l.timestamp >= :from and l.timestamp < :to " +
+            "order by l.timestamp desc, l.id desc")
+    List<FertilizerLogDTO> findDTOsByCultivationId(@Param("cultivationId") Long cultivationId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   Limit limit);
+
+    // The newest :limit logs of each of the user's cultivations in one statement, grouped by cultivation
+    @Query("select new com.example.server.dto.FertilizerLogDTO(r.logId, r.loggedAt, r.cultivationId, r.fertilizerId, r.fertilizerName) " +
+            "from (select l.id as logId, l.timestamp as loggedAt, c.id as cultivationId, f.id as fertilizerId, f.name as fertilizerName, " +
+            "row_number() over (partition by c.id order by l.timestamp desc, l.id desc) as rn " +
+            "from FertilizerLog l join l.cultivation c join l.fertilizer f where c.userId = :userId) r " +
+            "where r.rn <= :limit " +
+            "order by r.cultivationId, r.loggedAt desc, r.logId desc")
+    List<FertilizerLogDTO> findRecentDTOsByUserId(@Param("userId") String userId, @Param("limit") int limit);
 }
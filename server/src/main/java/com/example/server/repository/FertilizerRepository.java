@@ -2,6 +2,18 @@ package com.example.server.repository;
 
 import com.example.server.model.Fertilizer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface FertilizerRepository extends JpaRepository<Fertilizer, Long> {
+
+    @Query("select f.id from Fertilizer f where f.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select f.imagePath from Fertilizer f where f.id = :id")
+    Optional<String> findImagePathById(@Param("id") Long id);
 }
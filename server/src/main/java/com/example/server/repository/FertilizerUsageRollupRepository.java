@@ -0,0 +1,40 @@
+package com.example.server.repository;
+
+import com.example.server.model.FertilizerUsageRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface FertilizerUsageRollupRepository extends JpaRepository<FertilizerUsageRollup, Long> {
+
+    // Creates the row for a new key or adds to the existing one, in one statement and the caller's transaction
+    @Modifying
+    @Query(value = "insert into fertilizer_usage_rollup (crop_id, usage_month, location, fertilizer_id, log_count) " +
+            "values (:cropId, :month, :location, :fertilizerId, :delta) " +
+            "on conflict (crop_id, usage_month, location, fertilizer_id) " +
+            "do update set log_count = fertilizer_usage_rollup.log_count + excluded.log_count",
+            nativeQuery = true)
+    int upsertCount(@Param("cropId") Long cropId,
+                    @Param("month") LocalDate month,
+                    @Param("location") String location,
+                    @Param("fertilizerId") Long fertilizerId,
+                    @Param("delta") long delta);
+
+    @Modifying
+    @Query("update FertilizerUsageRollup r set r.logCount = r.logCount + :delta " +
+            "where r.cropId = :cropId and r.usageMonth = :month and r.location = :location and r.fertilizerId = :fertilizerId")
+    int addToCount(@Param("cropId") Long cropId,
+                   @Param("month") LocalDate month,
+                   @Param("location") String location,
+                   @Param("fertilizerId") Long fertilizerId,
+                   @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from FertilizerUsageRollup r where r.fertilizerId = :fertilizerId")
+    int deleteByFertilizerId(@Param("fertilizerId") Long fertilizerId);
+}
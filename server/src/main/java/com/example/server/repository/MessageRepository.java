@@ -1,13 +1,30 @@
 package com.example.server.repository;
 
+import com.example.server.dto.MessageResponseDTO;
 import com.example.server.model.Message;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    List<Message> findByUserId(String userId);
-}
 
+    // Newest first, served straight from idx_message_user_timestamp
+    @Query("select new com.example.server.dto.MessageResponseDTO(m.id, m.isBot, m.userId, m.content, m.timestamp) " +
+            "from Message m where m.userId = :userId " +
+            "order by m.timestamp desc, m.id desc")
+    List<MessageResponseDTO> findLatestByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("select new com.example.server.dto.MessageResponseDTO(m.id, m.isBot, m.userId, m.content, m.timestamp) " +
+            "from Message m where m.userId = :userId and (m.timestamp, m.id) < (:timestamp, :id) " +
+            "order by m.timestamp desc, m.id desc")
+    List<MessageResponseDTO> findByUserIdBefore(@Param("userId") String userId,
+                                                @Param("timestamp") LocalDateTime timestamp,
+                                                @Param("id") Long id,
+                                                Limit limit);
+}
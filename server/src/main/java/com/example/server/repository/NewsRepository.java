@@ -1,10 +1,40 @@
 package com.example.server.repository;
 
+import com.example.server.dto.NewsSummaryDTO;
 import com.example.server.model.News;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
-}
 
+    // Feed rows without the body, reading the maintained comment counter
+    @Query("select new com.example.server.dto.NewsSummaryDTO(n.id, n.title, n.imagePath, n.timestamp, n.author, " +
+            "coalesce(n.commentCount, 0)) " +
+            "from News n order by n.timestamp desc, n.id desc")
+    List<NewsSummaryDTO> findLatestSummaries(Limit limit);
+
+    @Query("select new com.example.server.dto.NewsSummaryDTO(n.id, n.title, n.imagePath, n.timestamp, n.author, " +
+            "coalesce(n.commentCount, 0)) " +
+            "from News n where (n.timestamp, n.id) < (:timestamp, :id) " +
+            "order by n.timestamp desc, n.id desc")
+    List<NewsSummaryDTO> findSummariesBefore(@Param("timestamp") LocalDateTime timestamp,
+                                             @Param("id") Long id,
+                                             Limit limit);
+
+    @Query("select n.imagePath from News n where n.id = :id")
+    Optional<String> findImagePathById(@Param("id") Long id);
+
+    // Returns 0 when the news row does not exist, which doubles as the existence check on comment insert
+    @Modifying
+    @Query("update News n set n.commentCount = coalesce(n.commentCount, 0) + 1 where n.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+}
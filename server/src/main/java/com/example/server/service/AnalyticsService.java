@@ -0,0 +1,10 @@
+package com.example.server.service;
+
+import com.example.server.dto.FertilizerUsageDTO;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface AnalyticsService {
+    List<FertilizerUsageDTO> getFertilizerUsage(List<String> groupBy, YearMonth from, YearMonth to);
+}
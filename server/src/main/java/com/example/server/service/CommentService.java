@@ -2,10 +2,11 @@ package com.example.server.service;
 
 import com.example.server.dto.CommentRequestDTO;
 import com.example.server.dto.CommentResponseDTO;
-
-import java.util.List;
+import com.example.server.dto.CursorPageDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface CommentService {
-    List<CommentResponseDTO> getCommentsByNewsId(Long newsId);
+    CursorPageDTO<CommentResponseDTO> getCommentsByNewsId(Long newsId, String before, Integer limit);
     CommentResponseDTO createComment(CommentRequestDTO dto);
+    SseEmitter streamComments(Long newsId);
 }
@@ -0,0 +1,13 @@
+package com.example.server.service;
+
+import com.example.server.dto.CatalogSnapshotDTO;
+import com.example.server.dto.CropDTO;
+
+import java.util.List;
+
+public interface CropService {
+    List<CropDTO> getAllCrops();
+    CropDTO getCropById(Long id);
+    // accept is the request's Accept header; it selects JSON, CBOR or Smile
+    CatalogSnapshotDTO getCropCatalog(String accept);
+}
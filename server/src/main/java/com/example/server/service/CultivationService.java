@@ -1,13 +1,16 @@
 package com.example.server.service;
 
 import com.example.server.dto.CultivationDTO;
-import com.example.server.model.Cultivation;
+import com.example.server.dto.CultivationDetailDTO;
+import com.example.server.dto.FertilizerLogDTO;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CultivationService {
     Long createCultivation(CultivationDTO cultivationDTO);
     List<CultivationDTO> getCultivationsByUserId(String userId);
-    Cultivation getCultivationById(Long cultivationId);
+    CultivationDetailDTO getCultivationDetail(Long cultivationId, Integer logLimit);
+    // Recent logs of all the user's cultivations, keyed by cultivation id; cultivations without logs are absent
+    Map<Long, List<FertilizerLogDTO>> getRecentLogsByUserId(String userId, Integer logLimit);
 }
-
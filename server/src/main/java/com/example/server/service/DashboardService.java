@@ -0,0 +1,7 @@
+package com.example.server.service;
+
+import com.example.server.dto.UserDashboardDTO;
+
+public interface DashboardService {
+    UserDashboardDTO getDashboard(String userId);
+}
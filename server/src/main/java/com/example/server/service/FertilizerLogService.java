@@ -1,13 +1,16 @@
 package com.example.server.service;
 
+import com.example.server.dto.BulkImportResultDTO;
 import com.example.server.dto.FertilizerLogDTO;
-import com.example.server.model.Cultivation;
-import com.example.server.model.FertilizerLog;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FertilizerLogService {
-    List<FertilizerLogDTO> getFertilizerLogByCultivationId(Long cultivationId);
+    List<FertilizerLogDTO> getFertilizerLogByCultivationId(Long cultivationId, LocalDateTime from, LocalDateTime to);
     Long createFertilizerLog(FertilizerLogDTO dto);
+    BulkImportResultDTO createFertilizerLogs(List<FertilizerLogDTO> dtos);
+    BulkImportResultDTO importFertilizerLogsCsv(InputStream csv);
     void deleteFertilizerLog(Long id);
 }
@@ -1,5 +1,6 @@
 package com.example.server.service;
 
+import com.example.server.dto.CatalogSnapshotDTO;
 import com.example.server.dto.FertilizerDTO;
 
 import java.util.List;
@@ -8,4 +9,6 @@ public interface FertilizerService {
     List<FertilizerDTO> getAllFertilizers();
     FertilizerDTO getFertilizerById(Long id);
     void deleteFertilizer(Long id);
+    // accept is the request's Accept header; it selects JSON, CBOR or Smile
+    CatalogSnapshotDTO getFertilizerCatalog(String accept);
 }
@@ -0,0 +1,8 @@
+package com.example.server.service;
+
+import com.example.server.dto.ImageVariantDTO;
+
+public interface ImageService {
+    // type is news, fertilizers or crops; width snaps up to the nearest configured width
+    ImageVariantDTO getImage(String type, Long id, Integer width, String format);
+}
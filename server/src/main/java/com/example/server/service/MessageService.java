@@ -1,11 +1,17 @@
 package com.example.server.service;
 
+import com.example.server.dto.ChatAnswerCacheStatsDTO;
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.MessageRequestDTO;
 import com.example.server.dto.MessageResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MessageService {
-    List<MessageResponseDTO> getMessagesByUserId(String userId);
-    MessageResponseDTO handleMessage(MessageRequestDTO requestDTO);
+    CursorPageDTO<MessageResponseDTO> getMessagesByUserId(String userId, String before, Integer limit);
+    CompletableFuture<MessageResponseDTO> handleMessage(MessageRequestDTO requestDTO);
+    SseEmitter streamMessage(MessageRequestDTO requestDTO);
+    ChatAnswerCacheStatsDTO getAnswerCacheStats();
+    void invalidateAnswerCache(String question);
 }
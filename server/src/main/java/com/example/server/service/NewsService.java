@@ -1,11 +1,11 @@
 package com.example.server.service;
 
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.NewsResponseDTO;
-
-import java.util.List;
+import com.example.server.dto.NewsSummaryDTO;
 
 public interface NewsService {
-    List<NewsResponseDTO> getAllNews();
+    CursorPageDTO<NewsSummaryDTO> getNewsFeed(String before, Integer limit);
     NewsResponseDTO getNewsById(Long id);
 }
 
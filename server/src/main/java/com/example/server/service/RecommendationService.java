@@ -0,0 +1,11 @@
+package com.example.server.service;
+
+import com.example.server.dto.FertilizerRecommendationDTO;
+import com.example.server.dto.FertilizerRecommendationRequestDTO;
+
+import java.util.List;
+
+public interface RecommendationService {
+    FertilizerRecommendationDTO recommendFertilizer(FertilizerRecommendationRequestDTO request);
+    List<FertilizerRecommendationDTO> recommendFertilizers(List<FertilizerRecommendationRequestDTO> requests);
+}
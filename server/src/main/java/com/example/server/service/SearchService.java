@@ -0,0 +1,8 @@
+package com.example.server.service;
+
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.dto.SearchHitDTO;
+
+public interface SearchService {
+    CursorPageDTO<SearchHitDTO> search(String q, String after, Integer limit);
+}
@@ -0,0 +1,107 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.FertilizerUsageDTO;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.service.AnalyticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    static final Set<String> USAGE_DIMENSIONS = Set.of("crop", "month", "location");
+
+    private final EntityManager entityManager;
+
+    // Aggregates the rollup table only; fertilizer is always a dimension, the others are opt-in
+    @Override
+    @Transactional(readOnly = true)
+    public List<FertilizerUsageDTO> getFertilizerUsage(List<String> groupBy, YearMonth from, YearMonth to) {
+        boolean byCrop = false, byMonth = false, byLocation = false;
+        for (String dimension : groupBy) {
+            String name = dimension.trim().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "crop" -> byCrop = true;
+                case "month" -> byMonth = true;
+                case "location" -> byLocation = true;
+                case "", "fertilizer" -> { }
+                default -> throw new BadRequestException(
+                        "Unknown groupBy dimension: " + dimension + " (allowed: " + USAGE_DIMENSIONS + ")");
+            }
+        }
+
+        StringBuilder select = new StringBuilder("select r.fertilizerId, f.name");
+        StringBuilder source = new StringBuilder(" from FertilizerUsageRollup r join Fertilizer f on f.id = r.fertilizerId");
+        StringBuilder group = new StringBuilder(" group by r.fertilizerId, f.name");
+        StringBuilder order = new StringBuilder(" order by");
+        if (byMonth) {
+            select.append(", r.usageMonth");
+            group.append(", r.usageMonth");
+            order.append(" r.usageMonth,");
+        }
+        if (byCrop) {
+            select.append(", r.cropId, c.name");
+            source.append(" join Crop c on c.id = r.cropId");
+            group.append(", r.cropId, c.name");
+            order.append(" c.name,");
+        }
+        if (byLocation) {
+            select.append(", r.location");
+            group.append(", r.location");
+            order.append(" r.location,");
+        }
+        select.append(", sum(r.logCount)");
+        order.append(" sum(r.logCount) desc, f.name");
+
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+        if (from != null) {
+            where.append(" and r.usageMonth >= :from");
+        }
+        if (to != null) {
+            where.append(" and r.usageMonth <= :to");
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                select.toString() + source + where + group + " having sum(r.logCount) > 0" + order, Object[].class);
+        if (from != null) {
+            query.setParameter("from", from.atDay(1));
+        }
+        if (to != null) {
+            query.setParameter("to", to.atDay(1));
+        }
+
+        List<Object[]> rows = query.getResultList();
+        List<FertilizerUsageDTO> usage = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            int col = 0;
+            FertilizerUsageDTO dto = new FertilizerUsageDTO();
+            dto.setFertilizerId((Long) row[col++]);
+            dto.setFertilizerName((String) row[col++]);
+            if (byMonth) {
+                dto.setMonth(YearMonth.from((LocalDate) row[col++]));
+            }
+            if (byCrop) {
+                dto.setCropId((Long) row[col++]);
+                dto.setCropName((String) row[col++]);
+            }
+            if (byLocation) {
+                String location = (String) row[col++];
+                dto.setLocation(location.isEmpty() ? null : location);
+            }
+            dto.setLogCount(((Number) row[col]).longValue());
+            usage.add(dto);
+        }
+        return usage;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CatalogSnapshotDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps read-mostly catalogs (fertilizers, crops) as pre-serialized bytes so list requests
+ * skip the database, DTO mapping and Jackson. Writes invalidate the affected catalog; a TTL
+ * picks up changes made by other instances or directly in the database. Each negotiated format
+ * (JSON, CBOR, Smile) is a separate snapshot, built on first request; concurrent misses wait
+ * for a single rebuild instead of each loading the catalog.
+ */
+@Component
+public class CatalogSnapshotCache {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // JSON first: it is the answer for a missing, wildcard or unsupported Accept header
+    private final Map<MediaType, ObjectMapper> formats = new LinkedHashMap<>();
+
+    private final Map<String, Map<MediaType, CatalogSnapshotDTO>> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CatalogSnapshotDTO>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${catalog.snapshot.ttl:5m}")
+    private Duration ttl;
+
+    public CatalogSnapshotCache(ObjectMapper objectMapper,
+                                MappingJackson2CborHttpMessageConverter cborConverter,
+                                MappingJackson2SmileHttpMessageConverter smileConverter) {
+        formats.put(MediaType.APPLICATION_JSON, objectMapper);
+        formats.put(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper());
+        formats.put(APPLICATION_SMILE, smileConverter.getObjectMapper());
+    }
+
+    // First explicitly named format in the Accept header that we can produce, else JSON
+    public MediaType negotiate(String accept) {
+        if (accept != null) {
+            try {
+                for (MediaType accepted : MediaType.parseMediaTypes(accept)) {
+                    if (accepted.isWildcardType() || accepted.isWildcardSubtype()) {
+                        continue;
+                    }
+                    for (MediaType format : formats.keySet()) {
+                        if (accepted.isCompatibleWith(format)) {
+                            return format;
+                        }
+                    }
+                }
+            } catch (InvalidMediaTypeException e) {
+                // Unparseable Accept header: answer with JSON
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public CatalogSnapshotDTO get(String catalog, MediaType format, Supplier<?> loader) {
+        CatalogSnapshotDTO snapshot = fresh(catalog, format);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return rebuild(catalog, format, loader);
+    }
+
+    public synchronized void invalidate(String catalog) {
+        generation(catalog).incrementAndGet();
+        snapshots.remove(catalog);
+    }
+
+    private CatalogSnapshotDTO fresh(String catalog, MediaType format) {
+        CatalogSnapshotDTO snapshot = snapshots.getOrDefault(catalog, Map.of()).get(format);
+        return snapshot != null && snapshot.getBuiltAt().plus(ttl).isAfter(Instant.now()) ? snapshot : null;
+    }
+
+    // One load per catalog, format and generation; a write starts a new generation, so requests
+    // arriving after it never wait on a load that may predate it
+    private CatalogSnapshotDTO rebuild(String catalog, MediaType format, Supplier<?> loader) {
+        long generation = generation(catalog).get();
+        String key = catalog + "|" + format + "|" + generation;
+        CompletableFuture<CatalogSnapshotDTO> created = new CompletableFuture<>();
+        CompletableFuture<CatalogSnapshotDTO> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            // Another rebuild may have published between our miss and claiming the key
+            CatalogSnapshotDTO snapshot = fresh(catalog, format);
+            if (snapshot == null) {
+                snapshot = serialize(loader.get(), format);
+                // Only publish if no write invalidated the catalog while it was being loaded
+                synchronized (this) {
+                    if (generation(catalog).get() == generation) {
+                        snapshots.computeIfAbsent(catalog, k -> new ConcurrentHashMap<>()).put(format, snapshot);
+                    }
+                }
+            }
+            created.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static CatalogSnapshotDTO await(CompletableFuture<CatalogSnapshotDTO> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private CatalogSnapshotDTO serialize(Object catalog, MediaType format) {
+        try {
+            byte[] body = formats.get(format).writeValueAsBytes(catalog);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+            return new CatalogSnapshotDTO(body, format, etag, Instant.now());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to build catalog snapshot", e);
+        }
+    }
+
+    private AtomicLong generation(String catalog) {
+        return generations.computeIfAbsent(catalog, key -> new AtomicLong());
+    }
+}
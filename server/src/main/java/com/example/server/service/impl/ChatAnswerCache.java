@@ -0,0 +1,143 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.ChatAnswerCacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded LRU of bot answers keyed on a normalized form of the question. The agent sees only
+ * the current message, so the same question always gets an equivalent answer; the TTL lets
+ * answers pick up changes to the agent and its sources.
+ */
+@Component
+public class ChatAnswerCache {
+
+    // ZWSP, ZWNJ, ZWJ and BOM: Sinhala keyboards differ in whether they emit joiners inside conjuncts
+    private static final Pattern INVISIBLES = Pattern.compile("[\\u200B\\u200C\\u200D\\uFEFF]");
+    // Covers ASCII punctuation as well as the Sinhala kunddaliya (U+0DF4)
+    private static final Pattern PUNCTUATION = Pattern.compile("\\p{P}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private record Entry(String answer, Instant expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final int maxQuestionLength;
+
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ChatAnswerCache(@Value("${chat.answer-cache.max-entries:1000}") int maxEntries,
+                           @Value("${chat.answer-cache.ttl:6h}") Duration ttl,
+                           @Value("${chat.answer-cache.max-question-length:300}") int maxQuestionLength) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.maxQuestionLength = maxQuestionLength;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > ChatAnswerCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** Returns the cache key for a question, or null if the question should not be cached. */
+    public String keyFor(String question) {
+        if (question == null || question.length() > maxQuestionLength) {
+            return null;
+        }
+        String key = Normalizer.normalize(question, Normalizer.Form.NFKC);
+        key = INVISIBLES.matcher(key).replaceAll("");
+        key = PUNCTUATION.matcher(key).replaceAll(" ");
+        key = WHITESPACE.matcher(key).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : foldDigits(key);
+    }
+
+    public synchronized String get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt().isBefore(Instant.now())) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.answer();
+    }
+
+    // Callers read the generation before asking the agent so answers that straddle an invalidation are dropped
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void put(String key, String answer, long expectedGeneration) {
+        if (key == null || answer == null || answer.isBlank() || generation != expectedGeneration) {
+            return;
+        }
+        entries.put(key, new Entry(answer, Instant.now().plus(ttl)));
+    }
+
+    public synchronized boolean invalidate(String question) {
+        generation++;
+        String key = keyFor(question);
+        return key != null && entries.remove(key) != null;
+    }
+
+    public synchronized int invalidateAll() {
+        generation++;
+        int removed = entries.size();
+        entries.clear();
+        return removed;
+    }
+
+    public synchronized ChatAnswerCacheStatsDTO stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        return ChatAnswerCacheStatsDTO.builder()
+                .size(entries.size())
+                .maxEntries(maxEntries)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(lookups == 0 ? 0.0 : (double) hitCount / lookups)
+                .evictions(evictions.get())
+                .build();
+    }
+
+    // Sinhala and other script digits become ASCII so "10kg" matches however it was typed
+    private static String foldDigits(String key) {
+        StringBuilder folded = null;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c > '9' && Character.isDigit(c)) {
+                if (folded == null) {
+                    folded = new StringBuilder(key);
+                }
+                folded.setCharAt(i, (char) ('0' + Character.digit(c, 10)));
+            }
+        }
+        return folded != null ? folded.toString() : key;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CommentResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed comments to the SSE subscribers of their news article. Each event is framed
+ * once and queued for every subscriber without blocking the committing thread; a subscriber's own
+ * sender drains its queue, so one slow client never delays the others. A subscriber whose queue
+ * is full is disconnected and has to reload the thread when it reconnects.
+ */
+@Slf4j
+@Component
+public class CommentBroadcaster {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong evictions = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final Executor commentStreamExecutor;
+
+    @Value("${comments.stream.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${comments.stream.timeout:30m}")
+    private Duration timeout;
+
+    public CommentBroadcaster(ObjectMapper objectMapper,
+                              @Qualifier("commentStreamExecutor") Executor commentStreamExecutor) {
+        this.objectMapper = objectMapper;
+        this.commentStreamExecutor = commentStreamExecutor;
+    }
+
+    public SseEmitter subscribe(Long newsId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(newsId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.compute(newsId, (id, audience) -> {
+            Set<Subscriber> joined = audience != null ? audience : ConcurrentHashMap.newKeySet();
+            joined.add(subscriber);
+            return joined;
+        });
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        Set<Subscriber> audience = subscribers.get(event.newsId());
+        if (audience == null || audience.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event.comment());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize comment {} for streaming", event.comment().getId(), e);
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(event.comment().getId()))
+                .name("comment")
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        audience.forEach(subscriber -> offer(subscriber, frame));
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away silently
+    @Scheduled(fixedDelayString = "${comments.stream.heartbeat-interval:25s}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(audience -> audience.forEach(subscriber -> offer(subscriber, frame)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(frame)) {
+            evictions.incrementAndGet();
+            log.debug("Disconnecting a slow comment subscriber of news {}", subscriber.newsId);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            commentStreamExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.closed.get() && (frame = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(frame);
+                } catch (IOException e) {
+                    remove(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                } catch (IllegalStateException e) {
+                    // Already completed by a timeout or the container
+                    remove(subscriber);
+                    return;
+                }
+            }
+            subscriber.sending.set(false);
+            // A frame queued after the last poll but before the flag was cleared would otherwise wait for the next one
+            if (subscriber.closed.get() || subscriber.queue.isEmpty() || !subscriber.sending.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    // complete() waits for a send in progress, so it runs on the stream executor rather than the caller
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            commentStreamExecutor.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.queue.clear();
+        subscribers.computeIfPresent(subscriber.newsId, (id, audience) -> {
+            audience.remove(subscriber);
+            return audience.isEmpty() ? null : audience;
+        });
+        return true;
+    }
+
+    private record Subscriber(Long newsId, SseEmitter emitter, ArrayBlockingQueue<Set<DataWithMediaType>> queue,
+                              AtomicBoolean sending, AtomicBoolean closed) {
+
+        Subscriber(Long newsId, SseEmitter emitter, ArrayBlockingQueue<Set<DataWithMediaType>> queue) {
+            this(newsId, emitter, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CommentResponseDTO;
+
+// Published inside createComment's transaction; CommentBroadcaster only sees it once that commits
+public record CommentCreatedEvent(Long newsId, CommentResponseDTO comment) {
+}
@@ -2,46 +2,84 @@ package com.example.server.service.impl;
 
 import com.example.server.dto.CommentRequestDTO;
 import com.example.server.dto.CommentResponseDTO;
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.exceptions.ResourceNotFoundException;
 import com.example.server.model.Comment;
-import com.example.server.model.News;
 import com.example.server.repository.CommentRepository;
 import com.example.server.repository.NewsRepository;
 import com.example.server.service.CommentService;
+import com.example.server.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int DEFAULT_THREAD_LIMIT = 30;
+    private static final int MAX_THREAD_LIMIT = 100;
+
     private final CommentRepository commentRepository;
     private final NewsRepository newsRepository;
+    private final CommentBroadcaster commentBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public List<CommentResponseDTO> getCommentsByNewsId(Long newsId) {
-        return commentRepository.findByNewsId(newsId)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CommentResponseDTO> getCommentsByNewsId(Long newsId, String before, Integer limit) {
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_THREAD_LIMIT, MAX_THREAD_LIMIT);
+
+        List<CommentResponseDTO> items;
+        if (before == null) {
+            items = commentRepository.findLatestByNewsId(newsId, Limit.of(pageSize));
+        } else {
+            KeysetCursor cursor = KeysetCursor.parse(before);
+            items = commentRepository.findByNewsIdBefore(newsId, cursor.timestamp(), cursor.id(), Limit.of(pageSize));
+        }
+
+        String nextCursor = null;
+        if (items.size() == pageSize) {
+            CommentResponseDTO last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).toString();
+        }
+        return new CursorPageDTO<>(items, nextCursor);
     }
 
     @Override
+    @Transactional
     public CommentResponseDTO createComment(CommentRequestDTO dto) {
-        News news = newsRepository.findById(dto.getNewsId())
-                .orElseThrow(() -> new RuntimeException("News not found"));
+        // Bumping the counter also tells us whether the news exists, without loading it
+        if (newsRepository.incrementCommentCount(dto.getNewsId()) == 0) {
+            throw new ResourceNotFoundException("News not found with id: " + dto.getNewsId());
+        }
 
         Comment comment = Comment.builder()
                 .content(dto.getContent())
                 .userId(dto.getUserId())
                 .timestamp(LocalDateTime.now())
-                .news(news)
+                .news(newsRepository.getReferenceById(dto.getNewsId()))
                 .build();
 
-        return mapToDTO(commentRepository.save(comment));
+        CommentResponseDTO created = mapToDTO(commentRepository.save(comment));
+        // Streamed to subscribers after commit, never for a rolled-back insert
+        eventPublisher.publishEvent(new CommentCreatedEvent(dto.getNewsId(), created));
+        return created;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter streamComments(Long newsId) {
+        if (!newsRepository.existsById(newsId)) {
+            throw new ResourceNotFoundException("News not found with id: " + newsId);
+        }
+        return commentBroadcaster.subscribe(newsId);
     }
 
     private CommentResponseDTO mapToDTO(Comment comment) {
@@ -53,4 +91,3 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 }
-
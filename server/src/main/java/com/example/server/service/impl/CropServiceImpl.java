@@ -0,0 +1,53 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CatalogSnapshotDTO;
+import com.example.server.dto.CropDTO;
+import com.example.server.exceptions.ResourceNotFoundException;
+import com.example.server.model.Crop;
+import com.example.server.repository.CropRepository;
+import com.example.server.service.CropService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CropServiceImpl implements CropService {
+
+    static final String CROP_CATALOG = "crops";
+
+    private final CropRepository cropRepository;
+    private final CatalogSnapshotCache catalogSnapshotCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CropDTO> getAllCrops() {
+        return cropRepository.findAll().stream().map(this::convertToDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CropDTO getCropById(Long id) {
+        Crop crop = cropRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Crop not found with id: " + id));
+        return convertToDTO(crop);
+    }
+
+    // this::getAllCrops skips the proxy, so the read-only transaction for a rebuild is opened here
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogSnapshotDTO getCropCatalog(String accept) {
+        return catalogSnapshotCache.get(CROP_CATALOG, catalogSnapshotCache.negotiate(accept), this::getAllCrops);
+    }
+
+    private CropDTO convertToDTO(Crop crop) {
+        return CropDTO.builder()
+                .id(crop.getId())
+                .name(crop.getName())
+                .description(crop.getDescription())
+                .imgPath(crop.getImgPath())
+                .build();
+    }
+}
@@ -1,26 +1,40 @@
 package com.example.server.service.impl;
 
 import com.example.server.dto.CultivationDTO;
+import com.example.server.dto.CultivationDetailDTO;
+import com.example.server.dto.FertilizerLogDTO;
 import com.example.server.exceptions.ResourceNotFoundException;
 import com.example.server.model.Crop;
 import com.example.server.model.Cultivation;
 import com.example.server.repository.CropRepository;
 import com.example.server.repository.CultivationRepository;
+import com.example.server.repository.FertilizerLogRepository;
 import com.example.server.service.CultivationService;
+import com.example.server.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CultivationServiceImpl implements CultivationService {
 
+    private static final int DEFAULT_RECENT_LOGS = 20;
+    private static final int MAX_RECENT_LOGS = 100;
+
     @Autowired
     private final CultivationRepository cultivationRepository;
     @Autowired
     private final CropRepository cropRepository;
+    @Autowired
+    private final FertilizerLogRepository fertilizerLogRepository;
 
     @Override
     public Long createCultivation(CultivationDTO dto) {
@@ -40,16 +54,41 @@ public class CultivationServiceImpl implements CultivationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CultivationDTO> getCultivationsByUserId(String userId) {
-        return cultivationRepository.findByUserId(userId)
-                .stream()
-                .map(c -> new CultivationDTO(c.getSoilType(),c.getLandArea(),c.getLocation(),c.getCrop().getId(), c.getUserId()))
-                .toList();
+        return cultivationRepository.findDTOsByUserId(userId);
     }
 
     @Override
-    public Cultivation getCultivationById(Long cultivationId) {
-        return cultivationRepository.findById(cultivationId)
+    @Transactional(readOnly = true)
+    public CultivationDetailDTO getCultivationDetail(Long cultivationId, Integer logLimit) {
+        // Cultivation and crop in one query, then a bounded slice of logs as a DTO projection
+        Cultivation cultivation = cultivationRepository.findWithCropById(cultivationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cultivation not found with id: " + cultivationId));
+        int limit = KeysetCursor.clampLimit(logLimit, DEFAULT_RECENT_LOGS, MAX_RECENT_LOGS);
+        List<FertilizerLogDTO> recentLogs = fertilizerLogRepository.findDTOsByCultivationId(
+                cultivationId, FertilizerLogRepository.OPEN_START, FertilizerLogRepository.OPEN_END, Limit.of(limit));
+
+        Crop crop = cultivation.getCrop();
+        return CultivationDetailDTO.builder()
+                .id(cultivation.getId())
+                .soilType(cultivation.getSoilType())
+                .landArea(cultivation.getLandArea())
+                .location(cultivation.getLocation())
+                .userId(cultivation.getUserId())
+                .cropId(crop != null ? crop.getId() : null)
+                .cropName(crop != null ? crop.getName() : null)
+                .cropImgPath(crop != null ? crop.getImgPath() : null)
+                .recentLogs(recentLogs)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<FertilizerLogDTO>> getRecentLogsByUserId(String userId, Integer logLimit) {
+        int limit = KeysetCursor.clampLimit(logLimit, DEFAULT_RECENT_LOGS, MAX_RECENT_LOGS);
+        // Rows arrive grouped by cultivation and newest first within each group
+        return fertilizerLogRepository.findRecentDTOsByUserId(userId, limit).stream()
+                .collect(Collectors.groupingBy(FertilizerLogDTO::getCultivationId, LinkedHashMap::new, Collectors.toList()));
     }
 }
@@ -0,0 +1,141 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CultivationDTO;
+import com.example.server.dto.CultivationDetailDTO;
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.dto.FertilizerLogDTO;
+import com.example.server.dto.MessageResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
+import com.example.server.dto.UserDashboardDTO;
+import com.example.server.service.CultivationService;
+import com.example.server.service.DashboardService;
+import com.example.server.service.MessageService;
+import com.example.server.service.NewsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Loads the launch screen concurrently: cultivations, their recent logs (one query for all of them),
+ * message history and the news feed start together, so a dashboard costs four queries however many
+ * cultivations the user has. All branches share one deadline; whatever is not done by then is
+ * cancelled and reported in {@link UserDashboardDTO#getIncomplete()}.
+ */
+@Slf4j
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private final CultivationService cultivationService;
+    private final MessageService messageService;
+    private final NewsService newsService;
+    private final AsyncTaskExecutor dashboardExecutor;
+
+    @Value("${dashboard.deadline:2s}")
+    private Duration deadline;
+
+    @Value("${dashboard.log-limit:10}")
+    private int logLimit;
+
+    @Value("${dashboard.message-limit:20}")
+    private int messageLimit;
+
+    @Value("${dashboard.news-limit:10}")
+    private int newsLimit;
+
+    public DashboardServiceImpl(CultivationService cultivationService,
+                                MessageService messageService,
+                                NewsService newsService,
+                                @Qualifier("dashboardExecutor") AsyncTaskExecutor dashboardExecutor) {
+        this.cultivationService = cultivationService;
+        this.messageService = messageService;
+        this.newsService = newsService;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+
+    @Override
+    public UserDashboardDTO getDashboard(String userId) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        List<String> incomplete = new ArrayList<>();
+        List<Future<?>> forked = new ArrayList<>();
+        try {
+            Future<List<CultivationDTO>> cultivations = fork(forked, () -> cultivationService.getCultivationsByUserId(userId));
+            Future<Map<Long, List<FertilizerLogDTO>>> logs = fork(forked, () -> cultivationService.getRecentLogsByUserId(userId, logLimit));
+            Future<CursorPageDTO<MessageResponseDTO>> messages = fork(forked, () -> messageService.getMessagesByUserId(userId, null, messageLimit));
+            Future<CursorPageDTO<NewsSummaryDTO>> news = fork(forked, () -> newsService.getNewsFeed(null, newsLimit));
+
+            List<CultivationDTO> userCultivations = join(cultivations, deadlineNanos, "cultivations", incomplete);
+            Map<Long, List<FertilizerLogDTO>> recentLogs = join(logs, deadlineNanos, "fertilizerLogs", incomplete);
+            List<CultivationDetailDTO> details = null;
+            if (userCultivations != null) {
+                details = new ArrayList<>(userCultivations.size());
+                for (CultivationDTO cultivation : userCultivations) {
+                    // Null logs mark the section as missing; an empty list means the cultivation has none
+                    details.add(withLogs(cultivation, recentLogs != null
+                            ? recentLogs.getOrDefault(cultivation.getId(), List.of()) : null));
+                }
+            }
+
+            return UserDashboardDTO.builder()
+                    .userId(userId)
+                    .cultivations(details)
+                    .messages(join(messages, deadlineNanos, "messages", incomplete))
+                    .news(join(news, deadlineNanos, "news", incomplete))
+                    .incomplete(incomplete)
+                    .build();
+        } finally {
+            // No branch outlives the request
+            for (Future<?> future : forked) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private <T> Future<T> fork(List<Future<?>> forked, Callable<T> branch) {
+        Future<T> future = dashboardExecutor.submit(branch);
+        forked.add(future);
+        return future;
+    }
+
+    // Null when the branch failed or the deadline passed; the section is then recorded as incomplete
+    private <T> T join(Future<T> future, long deadlineNanos, String section, List<String> incomplete) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Dashboard section {} missed the {} deadline", section, deadline);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed", section, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (incomplete != null) {
+            incomplete.add(section);
+        }
+        return null;
+    }
+
+    private static CultivationDetailDTO withLogs(CultivationDTO cultivation, List<FertilizerLogDTO> recentLogs) {
+        return CultivationDetailDTO.builder()
+                .id(cultivation.getId())
+                .soilType(cultivation.getSoilType())
+                .landArea(cultivation.getLandArea())
+                .location(cultivation.getLocation())
+                .userId(cultivation.getUserId())
+                .cropId(cultivation.getCropId())
+                .cropName(cultivation.getCropName())
+                .cropImgPath(cultivation.getCropImgPath())
+                .recentLogs(recentLogs)
+                .build();
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.server.service.impl;
 
+import com.example.server.dto.BulkImportErrorDTO;
+import com.example.server.dto.BulkImportResultDTO;
 import com.example.server.dto.FertilizerLogDTO;
+import com.example.server.exceptions.BadRequestException;
 import com.example.server.exceptions.ResourceNotFoundException;
 import com.example.server.model.Cultivation;
 import com.example.server.model.Fertilizer;
@@ -9,12 +12,33 @@ import com.example.server.repository.CultivationRepository;
 import com.example.server.repository.FertilizerLogRepository;
 import com.example.server.repository.FertilizerRepository;
 import com.example.server.service.FertilizerLogService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,15 +47,33 @@ public class FertilizerLogServiceImpl implements FertilizerLogService {
     private final FertilizerLogRepository fertilizerLogRepo;
     private final CultivationRepository cultivationRepository;
     private final FertilizerRepository fertilizerRepository;
+    private final EntityManager entityManager;
+    private final FertilizerUsageRollupUpdater rollupUpdater;
+
+    private static final int MAX_BULK_ROWS = 50_000;
+    // A multiple of hibernate.jdbc.batch_size so each chunk goes out as whole JDBC batches
+    private static final int INSERT_CHUNK_SIZE = 500;
+    // Each record as a String[]; blank lines are skipped and unquoted values trimmed
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerForArrayOf(String.class)
+            .with(CsvParser.Feature.WRAP_AS_ARRAY)
+            .with(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .with(CsvParser.Feature.TRIM_SPACES);
+
+    private record PendingLog(int row, Long cultivationId, Long fertilizerId, LocalDateTime timestamp) {
+    }
 
     @Override
-    public List<FertilizerLogDTO> getFertilizerLogByCultivationId(Long cultivationId) {
-        return fertilizerLogRepo.findByCultivationId(cultivationId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<FertilizerLogDTO> getFertilizerLogByCultivationId(Long cultivationId, LocalDateTime from, LocalDateTime to) {
+        return fertilizerLogRepo.findDTOsByCultivationId(
+                cultivationId,
+                from != null ? from : FertilizerLogRepository.OPEN_START,
+                to != null ? to : FertilizerLogRepository.OPEN_END,
+                Limit.unlimited());
     }
     @Override
+    @Transactional
     public Long createFertilizerLog(FertilizerLogDTO dto) {
         Cultivation cultivation = cultivationRepository.findById(dto.getCultivationId())
                 .orElseThrow(() -> new ResourceNotFoundException("Cultivation not found with id: " + dto.getCultivationId()));
@@ -45,23 +87,177 @@ public class FertilizerLogServiceImpl implements FertilizerLogService {
                 .fertilizer(fertilizer)
                 .build();
 
-        return fertilizerLogRepo.save(log).getId();
+        Long id = fertilizerLogRepo.save(log).getId();
+        rollupUpdater.add(FertilizerUsageRollupUpdater.Key.of(cultivation, fertilizer.getId(), log.getTimestamp()), 1);
+        return id;
     }
 
     @Override
-    public void deleteFertilizerLog(Long id) {
-        if (!fertilizerLogRepo.existsById(id)) {
-            throw new ResourceNotFoundException("Fertilizer log not found with id: " + id);
+    @Transactional
+    public BulkImportResultDTO createFertilizerLogs(List<FertilizerLogDTO> dtos) {
+        if (dtos.size() > MAX_BULK_ROWS) {
+            throw new BadRequestException("At most " + MAX_BULK_ROWS + " logs per import");
         }
-        fertilizerLogRepo.deleteById(id);
+        List<PendingLog> rows = new ArrayList<>(dtos.size());
+        List<BulkImportErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            FertilizerLogDTO dto = dtos.get(i);
+            int row = i + 1;
+            if (dto == null || dto.getCultivationId() == null || dto.getFertilizerId() == null) {
+                errors.add(new BulkImportErrorDTO(row, "cultivationId and fertilizerId are required"));
+                continue;
+            }
+            rows.add(new PendingLog(row, dto.getCultivationId(), dto.getFertilizerId(), dto.getTimestamp()));
+        }
+        return insertValidated(rows, dtos.size(), errors);
     }
-    private FertilizerLogDTO convertToDTO(FertilizerLog log) {
-        FertilizerLogDTO dto = new FertilizerLogDTO();
-        dto.setId(log.getId());
-        dto.setTimestamp(log.getTimestamp());
-        dto.setCultivationId(log.getCultivation().getId());
-        dto.setFertilizerId(log.getFertilizer().getId());
-        dto.setFertilizerName(log.getFertilizer().getName());
-        return dto;
+
+    // Streams the upload as RFC 4180 CSV (quoted fields, embedded commas); rows are numbered by their line in the file
+    @Override
+    @Transactional
+    public BulkImportResultDTO importFertilizerLogsCsv(InputStream csv) {
+        List<PendingLog> rows = new ArrayList<>();
+        List<BulkImportErrorDTO> errors = new ArrayList<>();
+        int received = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            // Spreadsheet exports start with a BOM, which would otherwise hide the quotes on the first header
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') {
+                reader.reset();
+            }
+            MappingIterator<String[]> records = CSV_READER.readValues(reader);
+            if (!records.hasNextValue()) {
+                throw new BadRequestException("CSV upload is empty");
+            }
+            int cultivationCol = -1, fertilizerCol = -1, timestampCol = -1;
+            String[] columns = records.nextValue();
+            for (int i = 0; i < columns.length; i++) {
+                switch (columns[i].trim().toLowerCase(Locale.ROOT)) {
+                    case "cultivationid" -> cultivationCol = i;
+                    case "fertilizerid" -> fertilizerCol = i;
+                    case "timestamp" -> timestampCol = i;
+                    default -> { }
+                }
+            }
+            if (cultivationCol < 0 || fertilizerCol < 0) {
+                throw new BadRequestException("CSV header must contain cultivationId and fertilizerId columns");
+            }
+
+            while (records.hasNextValue()) {
+                String[] fields = records.nextValue();
+                int lineNumber = records.getParser().currentTokenLocation().getLineNr();
+                if (++received > MAX_BULK_ROWS) {
+                    throw new BadRequestException("At most " + MAX_BULK_ROWS + " logs per import");
+                }
+                try {
+                    rows.add(new PendingLog(
+                            lineNumber,
+                            Long.parseLong(field(fields, cultivationCol)),
+                            Long.parseLong(field(fields, fertilizerCol)),
+                            parseTimestamp(field(fields, timestampCol))));
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    errors.add(new BulkImportErrorDTO(lineNumber, "Unparseable row: " + e.getMessage()));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Broken quoting leaves no reliable row boundary to resume from, so the whole upload is rejected
+            String line = e.getLocation() != null ? " at line " + e.getLocation().getLineNr() : "";
+            throw new BadRequestException("Malformed CSV" + line + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return insertValidated(rows, received, errors);
+    }
+
+    // One IN query per referenced table, then chunked saveAll so Hibernate can batch the inserts
+    private BulkImportResultDTO insertValidated(List<PendingLog> rows, int received, List<BulkImportErrorDTO> errors) {
+        Set<Long> cultivationIds = new HashSet<>();
+        Set<Long> fertilizerIds = new HashSet<>();
+        for (PendingLog row : rows) {
+            cultivationIds.add(row.cultivationId());
+            fertilizerIds.add(row.fertilizerId());
+        }
+        // Cultivations are loaded rather than just checked: their crop and location key the usage rollup
+        Map<Long, Cultivation> knownCultivations = new HashMap<>();
+        if (!cultivationIds.isEmpty()) {
+            for (Cultivation cultivation : cultivationRepository.findAllById(cultivationIds)) {
+                knownCultivations.put(cultivation.getId(), cultivation);
+            }
+        }
+        Set<Long> knownFertilizers = fertilizerIds.isEmpty()
+                ? Set.of() : new HashSet<>(fertilizerRepository.findExistingIds(fertilizerIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<FertilizerUsageRollupUpdater.Key, Long> usage = new HashMap<>();
+        List<FertilizerLog> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        int inserted = 0;
+        for (PendingLog row : rows) {
+            Cultivation cultivation = knownCultivations.get(row.cultivationId());
+            if (cultivation == null) {
+                errors.add(new BulkImportErrorDTO(row.row(), "Cultivation not found with id: " + row.cultivationId()));
+                continue;
+            }
+            if (!knownFertilizers.contains(row.fertilizerId())) {
+                errors.add(new BulkImportErrorDTO(row.row(), "Fertilizer not found with id: " + row.fertilizerId()));
+                continue;
+            }
+            LocalDateTime timestamp = row.timestamp() != null ? row.timestamp() : now;
+            chunk.add(FertilizerLog.builder()
+                    .timestamp(timestamp)
+                    .cultivation(cultivation)
+                    .fertilizer(fertilizerRepository.getReferenceById(row.fertilizerId()))
+                    .build());
+            FertilizerUsageRollupUpdater.Key key = FertilizerUsageRollupUpdater.Key.of(cultivation, row.fertilizerId(), timestamp);
+            if (key != null) {
+                usage.merge(key, 1L, Long::sum);
+            }
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                inserted += flushChunk(chunk);
+            }
+        }
+        inserted += flushChunk(chunk);
+        // One rollup update per distinct crop/month/location/fertilizer, not per row
+        rollupUpdater.addAll(usage);
+
+        errors.sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        return new BulkImportResultDTO(received, inserted, errors);
+    }
+
+    private int flushChunk(List<FertilizerLog> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        fertilizerLogRepo.saveAll(chunk);
+        // Send the batch now and detach it so the persistence context stays small
+        entityManager.flush();
+        entityManager.clear();
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+
+    private static String field(String[] fields, int index) {
+        return index >= 0 && index < fields.length ? fields[index].trim() : "";
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        // Field sheets often carry only the application date
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    @Override
+    @Transactional
+    public void deleteFertilizerLog(Long id) {
+        FertilizerLog log = fertilizerLogRepo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Fertilizer log not found with id: " + id));
+        // Key.of is null for a log without cultivation or fertilizer, which was never counted
+        FertilizerUsageRollupUpdater.Key key = FertilizerUsageRollupUpdater.Key.of(log.getCultivation(),
+                log.getFertilizer() != null ? log.getFertilizer().getId() : null, log.getTimestamp());
+        fertilizerLogRepo.delete(log);
+        rollupUpdater.add(key, -1);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.server.service.impl;
 
+import com.example.server.dto.CatalogSnapshotDTO;
 import com.example.server.dto.FertilizerDTO;
 import com.example.server.exceptions.ResourceNotFoundException;
 import com.example.server.model.Fertilizer;
@@ -7,6 +8,9 @@ import com.example.server.repository.FertilizerRepository;
 import com.example.server.service.FertilizerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -14,14 +18,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FertilizerServiceImpl implements FertilizerService {
 
+    static final String FERTILIZER_CATALOG = "fertilizers";
+
     private final FertilizerRepository fertilizerRepository;
+    private final CatalogSnapshotCache catalogSnapshotCache;
+    private final FertilizerUsageRollupUpdater rollupUpdater;
 
     @Override
+    @Transactional(readOnly = true)
     public List<FertilizerDTO> getAllFertilizers() {
         return fertilizerRepository.findAll().stream().map(this::convertToDTO).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FertilizerDTO getFertilizerById(Long id) {
         Fertilizer fertilizer = fertilizerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fertilizer not found with id: " + id));
@@ -29,11 +39,29 @@ public class FertilizerServiceImpl implements FertilizerService {
     }
 
     @Override
+    @Transactional
     public void deleteFertilizer(Long id) {
         if (!fertilizerRepository.existsById(id)) {
             throw new ResourceNotFoundException("Fertilizer not found with id: " + id);
         }
         fertilizerRepository.deleteById(id);
+        // The logs went with the fertilizer; leftover rows would be hidden by the analytics join anyway
+        rollupUpdater.removeFertilizer(id);
+        // Invalidated only once the delete is visible, or a rebuild in between could cache the deleted fertilizer
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogSnapshotCache.invalidate(FERTILIZER_CATALOG);
+            }
+        });
+    }
+
+    // Transactional here because the loader calls this bean directly, not through its proxy; the lazy
+    // connection proxy means a snapshot hit still takes no connection, and a rebuild reads from the replica
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogSnapshotDTO getFertilizerCatalog(String accept) {
+        return catalogSnapshotCache.get(FERTILIZER_CATALOG, catalogSnapshotCache.negotiate(accept), this::getAllFertilizers);
     }
 
     private FertilizerDTO convertToDTO(Fertilizer fertilizer) {
@@ -0,0 +1,66 @@
+package com.example.server.service.impl;
+
+import com.example.server.model.Cultivation;
+import com.example.server.repository.FertilizerUsageRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Applies log count deltas to fertilizer_usage_rollup inside the caller's transaction,
+ * so the rollup commits or rolls back together with the logs it counts.
+ */
+@Component
+@RequiredArgsConstructor
+public class FertilizerUsageRollupUpdater {
+
+    public record Key(Long cropId, LocalDate month, String location, Long fertilizerId) {
+
+        // Null when the log cannot be attributed to a crop and month
+        public static Key of(Cultivation cultivation, Long fertilizerId, LocalDateTime timestamp) {
+            if (cultivation == null || cultivation.getCrop() == null || fertilizerId == null || timestamp == null) {
+                return null;
+            }
+            String location = cultivation.getLocation() != null ? cultivation.getLocation() : "";
+            return new Key(cultivation.getCrop().getId(), timestamp.toLocalDate().withDayOfMonth(1), location, fertilizerId);
+        }
+    }
+
+    // Upserts take row locks; applying keys in one order keeps concurrent bulk imports from deadlocking
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::cropId)
+            .thenComparing(Key::month)
+            .thenComparing(Key::location)
+            .thenComparing(Key::fertilizerId);
+
+    private final FertilizerUsageRollupRepository rollupRepository;
+
+    @Transactional
+    public void add(Key key, long delta) {
+        if (key == null || delta == 0) {
+            return;
+        }
+        if (delta > 0) {
+            rollupRepository.upsertCount(key.cropId(), key.month(), key.location(), key.fertilizerId(), delta);
+        } else {
+            // A removed log was counted when it was written, so its row already exists
+            rollupRepository.addToCount(key.cropId(), key.month(), key.location(), key.fertilizerId(), delta);
+        }
+    }
+
+    @Transactional
+    public void addAll(Map<Key, Long> deltas) {
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .forEach(entry -> add(entry.getKey(), entry.getValue()));
+    }
+
+    @Transactional
+    public void removeFertilizer(Long fertilizerId) {
+        rollupRepository.deleteByFertilizerId(fertilizerId);
+    }
+}
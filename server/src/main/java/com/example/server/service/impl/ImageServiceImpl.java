@@ -0,0 +1,209 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.ImageVariantDTO;
+import com.example.server.exceptions.BadGatewayException;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.exceptions.ResourceNotFoundException;
+import com.example.server.repository.CropRepository;
+import com.example.server.repository.FertilizerRepository;
+import com.example.server.repository.NewsRepository;
+import com.example.server.service.ImageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Serves the images behind News.imagePath, Fertilizer.imagePath and Crop.imgPath at a few fixed
+ * widths. Relative paths are read from images.source-dir; absolute http(s) URLs are fetched, but only
+ * from images.allowed-hosts. Variants are keyed by source, source version, width and format, so an
+ * edited image or a changed path gets a new file and a new ETag.
+ */
+@Slf4j
+@Service
+public class ImageServiceImpl implements ImageService {
+
+    private final NewsRepository newsRepository;
+    private final FertilizerRepository fertilizerRepository;
+    private final CropRepository cropRepository;
+    private final ImageVariantCache imageVariantCache;
+    private final RestTemplate imageRestTemplate;
+
+    @Value("${images.source-dir:images}")
+    private Path sourceDir;
+
+    @Value("${images.allowed-hosts:}")
+    private List<String> allowedHosts;
+
+    // Fixed widths bound the number of variants per image
+    @Value("${images.widths:160,320,640,1280}")
+    private List<Integer> widths;
+
+    @Value("${images.max-source-size:10MB}")
+    private DataSize maxSourceSize;
+
+    @Value("${images.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    public ImageServiceImpl(NewsRepository newsRepository,
+                            FertilizerRepository fertilizerRepository,
+                            CropRepository cropRepository,
+                            ImageVariantCache imageVariantCache,
+                            @Qualifier("imageRestTemplate") RestTemplate imageRestTemplate) {
+        this.newsRepository = newsRepository;
+        this.fertilizerRepository = fertilizerRepository;
+        this.cropRepository = cropRepository;
+        this.imageVariantCache = imageVariantCache;
+        this.imageRestTemplate = imageRestTemplate;
+    }
+
+    // Deliberately not transactional: only the path lookup needs a connection, not the fetch or the resize
+    @Override
+    public ImageVariantDTO getImage(String type, Long id, Integer width, String format) {
+        String imagePath = imagePath(type, id)
+                .filter(path -> !path.isBlank())
+                .orElseThrow(() -> new ResourceNotFoundException("No image for " + type + " with id: " + id));
+        String outputFormat = outputFormat(format);
+        int variantWidth = variantWidth(width);
+
+        Source source = source(imagePath);
+        String key = key(imagePath + "\n" + source.version() + "\n" + variantWidth + "\n" + outputFormat);
+        String name = key + (ImageResizer.JPEG.equals(outputFormat) ? ".jpg" : ".png");
+        try {
+            FileChannel channel = imageVariantCache.open(name,
+                    () -> ImageResizer.resize(source.load(), variantWidth, outputFormat, maxSourcePixels));
+            try {
+                return new ImageVariantDTO(channel, channel.size(),
+                        ImageResizer.JPEG.equals(outputFormat) ? MediaType.IMAGE_JPEG : MediaType.IMAGE_PNG, "\"" + key + "\"");
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not produce image variant for " + imagePath, e);
+        }
+    }
+
+    private Optional<String> imagePath(String type, Long id) {
+        return switch (type) {
+            case "news" -> newsRepository.findImagePathById(id);
+            case "fertilizers" -> fertilizerRepository.findImagePathById(id);
+            case "crops" -> cropRepository.findImgPathById(id);
+            default -> throw new BadRequestException("Unknown image type: " + type + " (allowed: news, fertilizers, crops)");
+        };
+    }
+
+    private static String outputFormat(String format) {
+        if (format == null) {
+            return ImageResizer.JPEG;
+        }
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "jpg", "jpeg" -> ImageResizer.JPEG;
+            case "png" -> ImageResizer.PNG;
+            default -> throw new BadRequestException("Unsupported image format: " + format + " (allowed: jpeg, png)");
+        };
+    }
+
+    private int variantWidth(Integer width) {
+        int largest = widths.get(widths.size() - 1);
+        if (width == null) {
+            return largest;
+        }
+        if (width < 1) {
+            throw new BadRequestException("width must be positive");
+        }
+        return widths.stream().filter(w -> w >= width).findFirst().orElse(largest);
+    }
+
+    private Source source(String imagePath) {
+        if (imagePath.startsWith("http://") || imagePath.startsWith("https://")) {
+            URI uri = URI.create(imagePath);
+            if (uri.getHost() == null || allowedHosts.stream().noneMatch(host -> host.equalsIgnoreCase(uri.getHost()))) {
+                log.debug("Refusing to fetch image from a host not in images.allowed-hosts: {}", imagePath);
+                throw new ResourceNotFoundException("Image not available: " + imagePath);
+            }
+            // Remote images are treated as immutable; a new image is expected to get a new URL
+            return new Source("", () -> fetch(uri));
+        }
+
+        Path root = sourceDir.toAbsolutePath().normalize();
+        Path file = root.resolve(imagePath.replaceFirst("^/+", "")).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Image not available: " + imagePath);
+        }
+        try {
+            String version = Files.getLastModifiedTime(file).toMillis() + "-" + Files.size(file);
+            return new Source(version, () -> {
+                if (Files.size(file) > maxSourceSize.toBytes()) {
+                    throw new IOException("Source image is larger than images.max-source-size");
+                }
+                return Files.readAllBytes(file);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A source the remote host no longer has is a missing image; any other failure of the host (error
+    // status, redirect, timeout, refused connection) is a 502 rather than a server error
+    private byte[] fetch(URI uri) throws IOException {
+        try {
+            return imageRestTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new BadGatewayException("Image host answered " + response.getStatusCode() + " for " + uri);
+                }
+                return readLimited(response.getBody());
+            });
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.Gone e) {
+            throw new ResourceNotFoundException("Image not available: " + uri);
+        } catch (RestClientException e) {
+            log.warn("Could not fetch image {}: {}", uri, e.getMessage());
+            throw new BadGatewayException("Could not fetch image: " + uri);
+        }
+    }
+
+    private byte[] readLimited(InputStream body) throws IOException {
+        byte[] data = body.readNBytes((int) maxSourceSize.toBytes() + 1);
+        if (data.length > maxSourceSize.toBytes()) {
+            throw new IOException("Source image is larger than images.max-source-size");
+        }
+        return data;
+    }
+
+    private static String key(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Source(String version, ImageVariantCache.Generator loader) {
+
+        byte[] load() throws IOException {
+            return loader.generate();
+        }
+    }
+}
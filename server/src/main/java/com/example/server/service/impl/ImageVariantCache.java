@@ -0,0 +1,185 @@
+package com.example.server.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resized images on local disk, evicted least recently served first once the directory grows past
+ * its size limit. Each variant is generated once even under concurrent requests, written to a
+ * temporary file and moved into place, so a reader never sees a partial file. The index is rebuilt
+ * from the directory on startup, oldest files first.
+ */
+@Slf4j
+@Component
+public class ImageVariantCache {
+
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    // File name -> size, in access order
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    @Value("${images.cache.dir:${java.io.tmpdir}/pohora-images}")
+    private Path directory;
+
+    @Value("${images.cache.max-size:512MB}")
+    private DataSize maxSize;
+
+    @PostConstruct
+    void load() throws IOException {
+        Files.createDirectories(directory);
+        record Entry(Path file, BasicFileAttributes attributes) {
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Entry> entries = files
+                    .map(file -> {
+                        try {
+                            return new Entry(file, Files.readAttributes(file, BasicFileAttributes.class));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .filter(entry -> entry.attributes().isRegularFile())
+                    .sorted(Comparator.comparing(entry -> entry.attributes().lastModifiedTime()))
+                    .toList();
+            synchronized (this) {
+                for (Entry entry : entries) {
+                    String name = entry.file().getFileName().toString();
+                    if (name.endsWith(PARTIAL_SUFFIX)) {
+                        Files.deleteIfExists(entry.file());
+                    } else {
+                        index.put(name, entry.attributes().size());
+                        totalBytes += entry.attributes().size();
+                    }
+                }
+                evict(null);
+            }
+        }
+        log.info("Image variant cache at {}: {} files, {} bytes", directory, index.size(), totalBytes);
+    }
+
+    /**
+     * Opens the variant, generating it first if needed. The channel is opened while eviction is held
+     * off, and an open file stays readable after it is unlinked, so a concurrent eviction cannot pull
+     * the bytes out from under a response. The caller closes the channel.
+     */
+    public FileChannel open(String name, Generator generator) throws IOException {
+        FileChannel cached = openCached(name);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(name, created);
+        if (running != null) {
+            await(running);
+            cached = openCached(name);
+            // Evicted again before this caller got to it; rare enough to simply make another copy
+            return cached != null ? cached : store(name, generator.generate());
+        }
+        try {
+            FileChannel channel = store(name, generator.generate());
+            created.complete(null);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(name, created);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized FileChannel openCached(String name) throws IOException {
+        if (index.get(name) == null) {
+            return null;
+        }
+        try {
+            return FileChannel.open(directory.resolve(name));
+        } catch (NoSuchFileException e) {
+            // Removed behind our back (tmp cleaner, operator); generate it again
+            totalBytes -= index.remove(name);
+            return null;
+        }
+    }
+
+    private FileChannel store(String name, byte[] data) throws IOException {
+        Path partial = Files.createTempFile(directory, "variant-", PARTIAL_SUFFIX);
+        try {
+            Files.write(partial, data);
+            Path file = directory.resolve(name);
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            synchronized (this) {
+                FileChannel channel = FileChannel.open(file);
+                Long previous = index.put(name, (long) data.length);
+                totalBytes += data.length - (previous != null ? previous : 0);
+                evict(name);
+                return channel;
+            }
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    // Never evicts keep, the variant just stored
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxSize.toBytes() && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("Could not evict image variant {}", entry.getKey(), e);
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private static void await(CompletableFuture<Void> running) throws IOException {
+        try {
+            running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        byte[] generate() throws IOException;
+    }
+}
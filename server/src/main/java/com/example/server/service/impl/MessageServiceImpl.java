@@ -1,24 +1,37 @@
 package com.example.server.service.impl;
 
+import com.example.server.client.IntelligenceClient;
+import com.example.server.client.IntelligenceUnavailableException;
+import com.example.server.dto.ChatAnswerCacheStatsDTO;
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.MessageRequestDTO;
 import com.example.server.dto.MessageResponseDTO;
 import com.example.server.model.Message;
 import com.example.server.repository.MessageRepository;
 import com.example.server.service.MessageService;
+import com.example.server.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageServiceImpl implements MessageService {
@@ -26,65 +39,185 @@ public class MessageServiceImpl implements MessageService {
     @Autowired
     private final MessageRepository messageRepository;
 
-    private final RestTemplate restTemplate;
+    private final IntelligenceClient intelligenceClient;
+
+    private final MessageWriteBuffer messageWriteBuffer;
+
+    private final ChatAnswerCache chatAnswerCache;
+
+    private final Executor chatExecutor;
+
+    @Value("${chat.stream.timeout:120s}")
+    private Duration streamTimeout;
+
+    @Value("${chat.fallback-reply}")
+    private String fallbackReply;
+
+    private static final int DEFAULT_HISTORY_LIMIT = 50;
+    private static final int MAX_HISTORY_LIMIT = 200;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MessageResponseDTO> getMessagesByUserId(String userId, String before, Integer limit) {
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_HISTORY_LIMIT, MAX_HISTORY_LIMIT);
+
+        List<MessageResponseDTO> newestFirst;
+        if (before == null) {
+            newestFirst = messageRepository.findLatestByUserId(userId, Limit.of(pageSize));
+        } else {
+            KeysetCursor cursor = KeysetCursor.parse(before);
+            newestFirst = messageRepository.findByUserIdBefore(userId, cursor.timestamp(), cursor.id(), Limit.of(pageSize));
+        }
+
+        // A full page means there may be older messages; point the cursor at the oldest one returned
+        String nextCursor = null;
+        if (newestFirst.size() == pageSize) {
+            MessageResponseDTO oldest = newestFirst.get(newestFirst.size() - 1);
+            nextCursor = new KeysetCursor(oldest.getTimestamp(), oldest.getId()).toString();
+        }
+
+        // Pages are returned in chronological order, like the full history used to be
+        List<MessageResponseDTO> items = new ArrayList<>(newestFirst);
+        Collections.reverse(items);
+        return new CursorPageDTO<>(items, nextCursor);
+    }
+
+    // Runs on the chat executor; the request thread is released as soon as the future is returned
+    @Override
+    @Async("chatExecutor")
+    public CompletableFuture<MessageResponseDTO> handleMessage(MessageRequestDTO requestDTO) {
+        // 1. Build user message (persisted together with the reply)
+        Message userMessage = buildMessage(requestDTO.getUserId(), requestDTO.getContent(), false);
+
+        // 2. Reuse a cached answer, otherwise ask the external bot API
+        String cacheKey = chatAnswerCache.keyFor(requestDTO.getContent());
+        String botReply = chatAnswerCache.get(cacheKey);
+        if (botReply == null) {
+            long generation = chatAnswerCache.generation();
+            try {
+                botReply = intelligenceClient.getAgentResponse(requestDTO.getContent());
+            } catch (IntelligenceUnavailableException e) {
+                log.warn("Answering user {} with the fallback reply: {}", requestDTO.getUserId(), e.getMessage());
+                messageWriteBuffer.enqueue(userMessage);
+                return CompletableFuture.completedFuture(fallbackDTO(requestDTO.getUserId()));
+            } catch (RuntimeException e) {
+                messageWriteBuffer.enqueue(userMessage);
+                throw e;
+            }
+            chatAnswerCache.put(cacheKey, botReply, generation);
+        }
+
+        // 3. Persist both messages in one batch and return the bot reply
+        Message botMessage = buildMessage(requestDTO.getUserId(), botReply, true);
+        return messageWriteBuffer.enqueue(userMessage, botMessage).thenApply(saved -> mapToDTO(botMessage));
+    }
 
     @Override
-    public List<MessageResponseDTO> getMessagesByUserId(String userId) {
-        List<Message> messages = messageRepository.findByUserId(userId);
-        return messages.stream().map(this::mapToDTO).collect(Collectors.toList());
+    public SseEmitter streamMessage(MessageRequestDTO requestDTO) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+
+        chatExecutor.execute(() -> {
+            Message userMessage = buildMessage(requestDTO.getUserId(), requestDTO.getContent(), false);
+            Consumer<String> relay = token -> {
+                if (clientGone.get()) {
+                    return;
+                }
+                try {
+                    emitter.send(SseEmitter.event().name("token").data(token));
+                } catch (IOException e) {
+                    clientGone.set(true);
+                }
+            };
+            try {
+                // A cached answer goes out as a single token
+                String cacheKey = chatAnswerCache.keyFor(requestDTO.getContent());
+                String botReply = chatAnswerCache.get(cacheKey);
+                if (botReply != null) {
+                    relay.accept(botReply);
+                } else {
+                    // Relay tokens while the client is listening; keep assembling the reply either way
+                    long generation = chatAnswerCache.generation();
+                    botReply = intelligenceClient.streamAgentResponse(requestDTO.getContent(), relay);
+                    chatAnswerCache.put(cacheKey, botReply, generation);
+                }
+
+                Message botMessage = buildMessage(requestDTO.getUserId(), botReply, true);
+                messageWriteBuffer.enqueue(userMessage, botMessage).whenComplete((saved, error) -> {
+                    if (clientGone.get()) {
+                        return;
+                    }
+                    if (error != null) {
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    try {
+                        emitter.send(SseEmitter.event().name("done").data(mapToDTO(botMessage)));
+                        emitter.complete();
+                    } catch (IOException e) {
+                        clientGone.set(true);
+                    }
+                });
+            } catch (IntelligenceUnavailableException e) {
+                log.warn("Answering user {} with the fallback reply: {}", requestDTO.getUserId(), e.getMessage());
+                messageWriteBuffer.enqueue(userMessage);
+                if (!clientGone.get()) {
+                    try {
+                        emitter.send(SseEmitter.event().name("done").data(fallbackDTO(requestDTO.getUserId())));
+                        emitter.complete();
+                    } catch (IOException ioe) {
+                        clientGone.set(true);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Streaming chat reply failed for user {}", requestDTO.getUserId(), e);
+                messageWriteBuffer.enqueue(userMessage);
+                if (!clientGone.get()) {
+                    emitter.completeWithError(e);
+                }
+            }
+        });
+        return emitter;
     }
 
     @Override
-    public MessageResponseDTO handleMessage(MessageRequestDTO requestDTO) {
-        // 1. Save user message
-        Message userMessage = Message.builder()
-                .isBot(false)
-                .userId(requestDTO.getUserId())
-                .content(requestDTO.getContent())
+    public ChatAnswerCacheStatsDTO getAnswerCacheStats() {
+        return chatAnswerCache.stats();
+    }
+
+    @Override
+    public void invalidateAnswerCache(String question) {
+        if (question != null) {
+            chatAnswerCache.invalidate(question);
+        } else {
+            chatAnswerCache.invalidateAll();
+        }
+    }
+
+    private Message buildMessage(String userId, String content, boolean isBot) {
+        return Message.builder()
+                .isBot(isBot)
+                .userId(userId)
+                .content(content)
                 .timestamp(LocalDateTime.now())
                 .build();
-        messageRepository.save(userMessage);
-
-        // 2. Build request for external bot API
-        Map<String, Object> message = Map.of(
-                "content", requestDTO.getContent(),
-                "sender", "human"
-        );
-        Map<String, Object> requestBody = Map.of(
-                "messages", List.of(message)
-        );
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-        // 3. Send request
-        ResponseEntity<Map> response = restTemplate.postForEntity(
-                "https://pohora-intelligence.koyeb.app/chat/get-agent-response/",
-                request,
-                Map.class
-        );
-
-        // 4. Parse response
-        Map<String, Object> data = (Map<String, Object>) response.getBody().get("data");
-        String botReply = (String) data.get("output");
-        if (botReply.length() > 255) {
-            botReply = botReply.substring(0, 255);
-        }
-        // 5. Save bot message
-        Message botMessage = Message.builder()
+    }
+    // Shown to the user but neither stored nor cached, so the question can simply be asked again
+    private MessageResponseDTO fallbackDTO(String userId) {
+        return MessageResponseDTO.builder()
                 .isBot(true)
-                .userId(requestDTO.getUserId())
-                .content(botReply)
+                .userId(userId)
+                .content(fallbackReply)
                 .timestamp(LocalDateTime.now())
                 .build();
-        messageRepository.save(botMessage);
-
-        // 6. Return bot reply
-        return mapToDTO(botMessage);
     }
+
     private MessageResponseDTO mapToDTO(Message message) {
         return MessageResponseDTO.builder()
+                .id(message.getId())
                 .isBot(message.getIsBot())
                 .userId(message.getUserId())
                 .content(message.getContent())
@@ -93,4 +226,3 @@ public class MessageServiceImpl implements MessageService {
     }
 
 }
-
@@ -0,0 +1,81 @@
+package com.example.server.service.impl;
+
+import com.example.server.model.Message;
+import com.example.server.repository.MessageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Write-behind buffer for chat messages. Messages are queued and inserted with one
+ * {@code saveAll} (a single JDBC batch) once the batch size is reached or the flush interval elapses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageWriteBuffer {
+
+    private final MessageRepository messageRepository;
+
+    private final LinkedBlockingQueue<PendingWrite> pending = new LinkedBlockingQueue<>();
+
+    private volatile boolean closed;
+
+    @Value("${chat.write-buffer.batch-size:50}")
+    private int batchSize;
+
+    // Messages of one call are always flushed together; the future completes once they are committed
+    public CompletableFuture<Void> enqueue(Message... messages) {
+        PendingWrite write = new PendingWrite(List.of(messages), new CompletableFuture<>());
+        if (closed) {
+            // Shutting down: write through so nothing is left behind
+            writeBatch(List.of(write));
+            return write.done();
+        }
+        pending.add(write);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+        return write.done();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-buffer.flush-interval:200ms}")
+    public void flush() {
+        List<PendingWrite> batch = new ArrayList<>();
+        synchronized (this) {
+            pending.drainTo(batch);
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        List<Message> messages = new ArrayList<>();
+        batch.forEach(write -> messages.addAll(write.messages()));
+        try {
+            messageRepository.saveAll(messages);
+            batch.forEach(write -> write.done().complete(null));
+        } catch (RuntimeException e) {
+            log.error("Failed to persist {} buffered chat messages", messages.size(), e);
+            batch.forEach(write -> write.done().completeExceptionally(e));
+        }
+    }
+
+    private record PendingWrite(List<Message> messages, CompletableFuture<Void> done) {
+    }
+}
@@ -1,27 +1,51 @@
 package com.example.server.service.impl;
 
+import com.example.server.dto.CursorPageDTO;
 import com.example.server.dto.NewsResponseDTO;
+import com.example.server.dto.NewsSummaryDTO;
 import com.example.server.model.News;
 import com.example.server.repository.NewsRepository;
 import com.example.server.service.NewsService;
+import com.example.server.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NewsServiceImpl implements NewsService {
 
+    private static final int DEFAULT_FEED_LIMIT = 20;
+    private static final int MAX_FEED_LIMIT = 100;
+
     private final NewsRepository newsRepository;
 
     @Override
-    public List<NewsResponseDTO> getAllNews() {
-        return newsRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NewsSummaryDTO> getNewsFeed(String before, Integer limit) {
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_FEED_LIMIT, MAX_FEED_LIMIT);
+
+        List<NewsSummaryDTO> items;
+        if (before == null) {
+            items = newsRepository.findLatestSummaries(Limit.of(pageSize));
+        } else {
+            KeysetCursor cursor = KeysetCursor.parse(before);
+            items = newsRepository.findSummariesBefore(cursor.timestamp(), cursor.id(), Limit.of(pageSize));
+        }
+
+        String nextCursor = null;
+        if (items.size() == pageSize) {
+            NewsSummaryDTO last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).toString();
+        }
+        return new CursorPageDTO<>(items, nextCursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public NewsResponseDTO getNewsById(Long id) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("News not found"));
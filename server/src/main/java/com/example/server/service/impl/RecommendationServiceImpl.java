@@ -0,0 +1,93 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.FertilizerChoiceDTO;
+import com.example.server.dto.FertilizerRecommendationDTO;
+import com.example.server.dto.FertilizerRecommendationRequestDTO;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.ml.FertilizerDecisionTree;
+import com.example.server.service.RecommendationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private final FertilizerDecisionTree fertilizerTree;
+
+    public RecommendationServiceImpl(ObjectMapper objectMapper,
+                                     @Value("${recommendation.fertilizer.model}") Resource fertilizerModel) throws IOException {
+        try (InputStream in = fertilizerModel.getInputStream()) {
+            this.fertilizerTree = FertilizerDecisionTree.load(in, objectMapper);
+        }
+    }
+
+    @Override
+    public FertilizerRecommendationDTO recommendFertilizer(FertilizerRecommendationRequestDTO request) {
+        return toDTO(score(request));
+    }
+
+    @Override
+    public List<FertilizerRecommendationDTO> recommendFertilizers(List<FertilizerRecommendationRequestDTO> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " readings per batch");
+        }
+        List<FertilizerRecommendationDTO> results = new ArrayList<>(requests.size());
+        for (FertilizerRecommendationRequestDTO request : requests) {
+            results.add(toDTO(score(request)));
+        }
+        return results;
+    }
+
+    private int score(FertilizerRecommendationRequestDTO request) {
+        int soil = fertilizerTree.soilIndexOf(request.getSoil());
+        if (soil < 0) {
+            throw new BadRequestException("Invalid soil type: " + request.getSoil());
+        }
+        int crop = fertilizerTree.cropIndexOf(request.getCrop());
+        if (crop < 0) {
+            throw new BadRequestException("Invalid crop type: " + request.getCrop());
+        }
+        return fertilizerTree.leaf(
+                required(request.getTemperature(), "temperature"),
+                required(request.getMoisture(), "moisture"),
+                required(request.getRainfall(), "rainfall"),
+                required(request.getPh(), "ph"),
+                required(request.getNitrogen(), "nitrogen"),
+                required(request.getPhosphorous(), "phosphorous"),
+                required(request.getPotassium(), "potassium"),
+                required(request.getCarbon(), "carbon"),
+                soil,
+                crop);
+    }
+
+    private FertilizerRecommendationDTO toDTO(int leaf) {
+        String[] classes = fertilizerTree.getClasses();
+        int count = fertilizerTree.getTopChoiceCount();
+        List<FertilizerChoiceDTO> topChoices = new ArrayList<>(count);
+        for (int rank = 0; rank < count; rank++) {
+            int classIndex = fertilizerTree.topClass(leaf, rank);
+            topChoices.add(new FertilizerChoiceDTO(classes[classIndex], fertilizerTree.probability(leaf, classIndex)));
+        }
+        return FertilizerRecommendationDTO.builder()
+                .fertilizer(topChoices.get(0).getFertilizer())
+                .confidence(topChoices.get(0).getConfidence())
+                .topChoices(topChoices)
+                .build();
+    }
+
+    private static double required(Double value, String name) {
+        if (value == null) {
+            throw new BadRequestException("Missing feature: " + name);
+        }
+        return value;
+    }
+}
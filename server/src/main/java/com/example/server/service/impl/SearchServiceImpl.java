@@ -0,0 +1,125 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.dto.SearchHitDTO;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.service.SearchService;
+import com.example.server.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Postgres full-text search over the search_vector columns from V4__full_text_search.sql. Hits
+ * from all three tables are ranked together; only the returned page gets headlines, since
+ * ts_headline re-parses the whole document.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_OFFSET = 1000;
+    private static final int MAX_TERMS = 8;
+    // Shorter terms match whole words only; a prefix of one or two letters matches nearly everything
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    // Rank normalization 1 divides by 1 + log(document length) so long articles do not win by size alone
+    private static final String SEARCH_SQL = """
+            with q as (select to_tsquery('english', :query) || to_tsquery('simple', :query) as query),
+            hits as (
+                select 'news' as type, n.id, n.title, n.body as text, ts_rank_cd(n.search_vector, q.query, 1) as rank
+                from news n, q where n.search_vector @@ q.query
+                union all
+                select 'fertilizer', f.id, f.name, concat_ws(' ', f.description, f.instructions),
+                       ts_rank_cd(f.search_vector, q.query, 1)
+                from fertilizer f, q where f.search_vector @@ q.query
+                union all
+                select 'crop', c.id, c.name, c.description, ts_rank_cd(c.search_vector, q.query, 1)
+                from crop c, q where c.search_vector @@ q.query
+            ),
+            page as (select * from hits order by rank desc, type, id limit :limit offset :offset)
+            select p.type, p.id,
+                   ts_headline('english', coalesce(p.title, ''), q.query, 'HighlightAll=true'),
+                   ts_headline('english', coalesce(p.text, ''), q.query, 'MaxFragments=2, MinWords=5, MaxWords=20'),
+                   p.rank
+            from page p, q
+            order by p.rank desc, p.type, p.id
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public CursorPageDTO<SearchHitDTO> search(String q, String after, Integer limit) {
+        String query = toTsQuery(q);
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_SEARCH_LIMIT, MAX_SEARCH_LIMIT);
+        int offset = parseOffset(after);
+
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL)
+                .setParameter("query", query)
+                .setParameter("limit", pageSize)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        List<SearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new SearchHitDTO(
+                    (String) row[0],
+                    ((Number) row[1]).longValue(),
+                    (String) row[2],
+                    (String) row[3],
+                    ((Number) row[4]).doubleValue()));
+        }
+        String nextCursor = hits.size() == pageSize && offset + pageSize <= MAX_OFFSET
+                ? String.valueOf(offset + pageSize)
+                : null;
+        return new CursorPageDTO<>(hits, nextCursor);
+    }
+
+    /**
+     * Turns free text into an AND of terms, each matching as a prefix so inflected Sinhala forms
+     * (වගාවට for වගාව) and partly typed words still hit. Only letters, combining marks and digits
+     * survive, which keeps user input from reaching tsquery syntax.
+     */
+    static String toTsQuery(String q) {
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        StringJoiner terms = new StringJoiner(" & ");
+        int count = 0;
+        for (String term : q.split("[^\\p{L}\\p{M}\\p{N}]+")) {
+            if (term.isEmpty() || count == MAX_TERMS) {
+                continue;
+            }
+            terms.add(term.codePointCount(0, term.length()) >= MIN_PREFIX_LENGTH ? term + ":*" : term);
+            count++;
+        }
+        if (count == 0) {
+            throw new BadRequestException("q must contain at least one word");
+        }
+        return terms.toString();
+    }
+
+    private static int parseOffset(String after) {
+        if (after == null) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(after);
+            if (offset >= 0 && offset <= MAX_OFFSET) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new BadRequestException("Invalid cursor: " + after);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.util;
+
+import com.example.server.exceptions.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in a (timestamp, id) ordered listing, written as {@code <ISO timestamp>,<id>}.
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    public static KeysetCursor parse(String value) {
+        int comma = value.lastIndexOf(',');
+        if (comma <= 0 || comma == value.length() - 1) {
+            throw new BadRequestException("Cursor must be in the form <timestamp>,<id>");
+        }
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(value.substring(0, comma)),
+                    Long.parseLong(value.substring(comma + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + value);
+        }
+    }
+
+    public static int clampLimit(Integer limit, int defaultLimit, int maxLimit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + "," + id;
+    }
+}
@@ -0,0 +1,95 @@
+-- Baseline: the schema the JPA entities map to. Every statement is idempotent so this also
+-- brings databases created earlier by ddl-auto=update up to date (they are baselined at version 0).
+
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS fertilizer_log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS message_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS crop (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    img_path    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS fertilizer (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(255),
+    description  VARCHAR(255),
+    image_path   VARCHAR(255),
+    instructions VARCHAR(255),
+    percentage   VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS cultivation (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    soil_type VARCHAR(255),
+    land_area FLOAT(53),
+    location  VARCHAR(255),
+    user_id   VARCHAR(255),
+    crop_id   BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS fertilizer_log (
+    id             BIGINT NOT NULL PRIMARY KEY,
+    timestamp      TIMESTAMP(6),
+    cultivation_id BIGINT,
+    fertilizer_id  BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS news (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(255),
+    body          VARCHAR(255),
+    image_path    VARCHAR(255),
+    timestamp     TIMESTAMP(6),
+    author        VARCHAR(255),
+    comment_count BIGINT DEFAULT 0
+);
+-- No default here, so V3 can tell which existing rows still need their count backfilled
+ALTER TABLE news ADD COLUMN IF NOT EXISTS comment_count BIGINT;
+
+CREATE TABLE IF NOT EXISTS comment (
+    id        BIGINT NOT NULL PRIMARY KEY,
+    content   VARCHAR(255),
+    user_id   VARCHAR(255),
+    timestamp TIMESTAMP(6),
+    news_id   BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS message (
+    id        BIGINT NOT NULL PRIMARY KEY,
+    is_bot    BOOLEAN,
+    user_id   VARCHAR(255),
+    content   TEXT,
+    timestamp TIMESTAMP(6)
+);
+-- Chat replies are stored untruncated
+ALTER TABLE message ALTER COLUMN content TYPE TEXT;
+
+CREATE TABLE IF NOT EXISTS fertilizer_usage_rollup (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    crop_id       BIGINT       NOT NULL,
+    usage_month   DATE         NOT NULL,
+    location      VARCHAR(255) NOT NULL,
+    fertilizer_id BIGINT       NOT NULL,
+    log_count     BIGINT       NOT NULL,
+    CONSTRAINT uk_fertilizer_usage_rollup_key UNIQUE (crop_id, usage_month, location, fertilizer_id)
+);
+
+-- Foreign keys keep the names Hibernate generated, so existing databases are recognised
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk3jlm2squgbbkpmilq9hla6ddm') THEN
+        ALTER TABLE cultivation ADD CONSTRAINT FK3jlm2squgbbkpmilq9hla6ddm FOREIGN KEY (crop_id) REFERENCES crop;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fkmjlsq177wx2eiftmb930wdiiu') THEN
+        ALTER TABLE fertilizer_log ADD CONSTRAINT FKmjlsq177wx2eiftmb930wdiiu FOREIGN KEY (cultivation_id) REFERENCES cultivation;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk2cj6x3ey77q5uh25lo7k70q1p') THEN
+        ALTER TABLE fertilizer_log ADD CONSTRAINT FK2cj6x3ey77q5uh25lo7k70q1p FOREIGN KEY (fertilizer_id) REFERENCES fertilizer;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fknxm8x9npdhuwxv2x2wxsghm17') THEN
+        ALTER TABLE comment ADD CONSTRAINT FKnxm8x9npdhuwxv2x2wxsghm17 FOREIGN KEY (news_id) REFERENCES news;
+    END IF;
+END $$;
@@ -0,0 +1,22 @@
+-- One index per repository finder; keyset pages read (owner, timestamp, id) straight from the index
+
+-- MessageRepository.findLatestByUserId / findByUserIdBefore
+CREATE INDEX IF NOT EXISTS idx_message_user_timestamp ON message (user_id, timestamp, id);
+
+-- CommentRepository.findLatestByNewsId / findByNewsIdBefore
+CREATE INDEX IF NOT EXISTS idx_comment_news_timestamp ON comment (news_id, timestamp, id);
+
+-- FertilizerLogRepository.findDTOsByCultivationId
+CREATE INDEX IF NOT EXISTS idx_fertilizer_log_cultivation_timestamp ON fertilizer_log (cultivation_id, timestamp, id);
+
+-- Deleting a fertilizer cascades to its logs
+CREATE INDEX IF NOT EXISTS idx_fertilizer_log_fertilizer ON fertilizer_log (fertilizer_id);
+
+-- CultivationRepository.findDTOsByUserId
+CREATE INDEX IF NOT EXISTS idx_cultivation_user ON cultivation (user_id);
+
+-- NewsRepository.findLatestSummaries / findSummariesBefore
+CREATE INDEX IF NOT EXISTS idx_news_timestamp ON news (timestamp, id);
+
+-- Analytics month-range filter
+CREATE INDEX IF NOT EXISTS idx_fertilizer_usage_rollup_month ON fertilizer_usage_rollup (usage_month);
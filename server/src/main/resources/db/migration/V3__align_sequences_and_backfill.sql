@@ -0,0 +1,16 @@
+-- Sequence-backed ids replaced IDENTITY columns; move each sequence past rows inserted before the switch
+SELECT setval('message_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM message) + 50, (SELECT last_value FROM message_seq)));
+SELECT setval('comment_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM comment) + 50, (SELECT last_value FROM comment_seq)));
+SELECT setval('fertilizer_log_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM fertilizer_log) + 50, (SELECT last_value FROM fertilizer_log_seq)));
+
+-- Backfill the comment counter for news rows created before it existed
+UPDATE news n SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.news_id = n.id) WHERE n.comment_count IS NULL;
+ALTER TABLE news ALTER COLUMN comment_count SET DEFAULT 0;
+
+-- Seed the fertilizer usage rollup from existing logs; afterwards it is maintained incrementally
+INSERT INTO fertilizer_usage_rollup (crop_id, usage_month, location, fertilizer_id, log_count)
+SELECT c.crop_id, CAST(date_trunc('month', l.timestamp) AS DATE), COALESCE(c.location, ''), l.fertilizer_id, COUNT(*)
+FROM fertilizer_log l JOIN cultivation c ON c.id = l.cultivation_id
+WHERE c.crop_id IS NOT NULL AND l.fertilizer_id IS NOT NULL AND l.timestamp IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM fertilizer_usage_rollup)
+GROUP BY c.crop_id, CAST(date_trunc('month', l.timestamp) AS DATE), COALESCE(c.location, ''), l.fertilizer_id;
@@ -0,0 +1,28 @@
+-- Search documents for GET /api/search. Each text is indexed twice: 'english' stems English words
+-- (paddies -> paddi), 'simple' keeps every word as written, which is what Sinhala needs since
+-- Postgres ships no Sinhala dictionary. Names and titles weigh more than body text.
+
+ALTER TABLE news ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(body, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(body, '')), 'B')
+) STORED;
+
+ALTER TABLE fertilizer ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '') || ' ' || coalesce(instructions, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(description, '') || ' ' || coalesce(instructions, '')), 'B')
+) STORED;
+
+ALTER TABLE crop ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_news_search ON news USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_fertilizer_search ON fertilizer USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_crop_search ON crop USING gin (search_vector);
@@ -0,0 +1,70 @@
+package com.example.server;
+
+import com.example.server.config.StartupReportLogger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails when the full server takes longer than the budget to start and answer its first request.
+ * Runs with {@code mvn package -Pfast-start} on the loadtest profile against the embedded PostgreSQL
+ * from {@link TestPostgres}, so Flyway and schema validation are part of the measured start; override
+ * the budget with {@code -Dstartup.budget-ms}.
+ * Classes already loaded by earlier tests only make it faster, so it guards against regressions
+ * rather than measuring a cold start. The slowest steps are written to target/startup-report.txt.
+ */
+@Tag("startup")
+class StartupBudgetTest {
+
+	private static final long BUDGET_MS = Long.getLong("startup.budget-ms", 8000);
+
+	@Test
+	void servesFirstRequestWithinBudget() throws Exception {
+		BufferingApplicationStartup startup = new BufferingApplicationStartup(10_000);
+		SpringApplication application = new SpringApplication(ServerApplication.class);
+		application.setApplicationStartup(startup);
+		application.setAdditionalProfiles("loadtest");
+
+		// The loadtest profile brings no database of its own; the embedded one starts before the clock
+		String[] args = {
+				"--server.port=0",
+				"--intelligence.base-url=http://localhost:9",
+				"--spring.datasource.url=" + TestPostgres.jdbcUrl(),
+				"--spring.datasource.username=" + TestPostgres.USERNAME,
+				"--spring.datasource.password="};
+
+		long start = System.nanoTime();
+		try (ConfigurableApplicationContext context = application.run(args)) {
+			long readyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			HttpResponse<String> response = HttpClient.newHttpClient().send(
+					HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/crops")).build(),
+					HttpResponse.BodyHandlers.ofString());
+			long firstResponseMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			String report = "Ready after " + readyMs + " ms, first response after " + firstResponseMs
+					+ " ms (budget " + BUDGET_MS + " ms)\n\n"
+					+ StartupReportLogger.format(startup.getBufferedTimeline(), 40) + "\n";
+			System.out.print(report);
+			Files.writeString(Path.of("target", "startup-report.txt"), report);
+
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(firstResponseMs).as("startup to first response, see target/startup-report.txt")
+					.isLessThan(BUDGET_MS);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.server;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * One embedded PostgreSQL per test JVM, for tests that need the real schema: Flyway runs the
+ * migrations against it and Hibernate validates the entities, exactly as in production.
+ * Use it from a {@code @DynamicPropertySource} method, or pass {@link #jdbcUrl()} with the
+ * {@link #USERNAME} and an empty password to an application started by hand.
+ */
+public final class TestPostgres {
+
+	public static final String USERNAME = "postgres";
+
+	private static EmbeddedPostgres postgres;
+
+	private TestPostgres() {
+	}
+
+	public static void register(DynamicPropertyRegistry registry) {
+		String url = jdbcUrl();
+		registry.add("spring.datasource.url", () -> url);
+		registry.add("spring.datasource.username", () -> USERNAME);
+		registry.add("spring.datasource.password", () -> "");
+	}
+
+	public static synchronized String jdbcUrl() {
+		if (postgres == null) {
+			try {
+				postgres = EmbeddedPostgres.start();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return postgres.getJdbcUrl(USERNAME, "postgres");
+	}
+}
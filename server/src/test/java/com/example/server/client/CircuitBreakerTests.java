@@ -0,0 +1,126 @@
+package com.example.server.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTests {
+
+	private final MutableClock clock = new MutableClock();
+	private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, Duration.ofSeconds(30), clock);
+
+	@Test
+	void staysClosedBelowMinimumCalls() {
+		for (int i = 0; i < 3; i++) {
+			long permit = breaker.tryAcquirePermission();
+			assertThat(permit).isNotEqualTo(CircuitBreaker.REJECTED);
+			breaker.onFailure(permit);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void opensAtThresholdAndRejectsUntilOpenDurationPasses() {
+		breaker.onSuccess(breaker.tryAcquirePermission());
+		breaker.onSuccess(breaker.tryAcquirePermission());
+		breaker.onFailure(breaker.tryAcquirePermission());
+		breaker.onFailure(breaker.tryAcquirePermission());
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.REJECTED);
+
+		clock.advance(Duration.ofSeconds(31));
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(CircuitBreaker.REJECTED);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		// Only one probe at a time
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void probeOutcomeClosesOrReopens() {
+		tripOpen();
+		clock.advance(Duration.ofSeconds(31));
+		breaker.onFailure(breaker.tryAcquirePermission());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		clock.advance(Duration.ofSeconds(31));
+		breaker.onSuccess(breaker.tryAcquirePermission());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(CircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void releasedProbeLetsAnotherCallerProbe() {
+		tripOpen();
+		clock.advance(Duration.ofSeconds(31));
+		long probe = breaker.tryAcquirePermission();
+		assertThat(probe).isNotEqualTo(CircuitBreaker.REJECTED);
+		breaker.releasePermission(probe);
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(CircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void callsPermittedBeforeOpeningDoNotDecideTheProbe() {
+		long straggler = breaker.tryAcquirePermission();
+		tripOpen();
+		clock.advance(Duration.ofSeconds(31));
+		long probe = breaker.tryAcquirePermission();
+
+		breaker.onSuccess(straggler);
+		breaker.releasePermission(straggler);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.REJECTED);
+
+		breaker.onFailure(probe);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void ignoresOutcomesFromBeforeTheCircuitClosed() {
+		long straggler = breaker.tryAcquirePermission();
+		tripOpen();
+		clock.advance(Duration.ofSeconds(31));
+		breaker.onSuccess(breaker.tryAcquirePermission());
+
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(straggler);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	private void tripOpen() {
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(breaker.tryAcquirePermission());
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	private static class MutableClock extends Clock {
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.server.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTests {
+
+	private ReadReplica readReplica;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnly;
+	private TransactionTemplate readWrite;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = database("primary");
+		DataSource replica = database("replica");
+		readReplica = mock(ReadReplica.class);
+		when(readReplica.getDataSource()).thenReturn(replica);
+		when(readReplica.isUsable()).thenReturn(true);
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, readReplica));
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void clearPin() {
+		ReplicaRoutingDataSource.clearPin();
+	}
+
+	@Test
+	void sendsReadOnlyTransactionsToReplicaAndWritesToPrimary() {
+		assertThat(sourceIn(readOnly)).isEqualTo("replica");
+		assertThat(sourceIn(readWrite)).isEqualTo("primary");
+		assertThat(source()).isEqualTo("primary");
+	}
+
+	@Test
+	void readsFromPrimaryWhenPinnedOrReplicaUnusable() {
+		ReplicaRoutingDataSource.pinToPrimary();
+		assertThat(sourceIn(readOnly)).isEqualTo("primary");
+
+		ReplicaRoutingDataSource.clearPin();
+		when(readReplica.isUsable()).thenReturn(false);
+		assertThat(sourceIn(readOnly)).isEqualTo("primary");
+	}
+
+	private String sourceIn(TransactionTemplate transaction) {
+		return transaction.execute(status -> source());
+	}
+
+	private String source() {
+		return jdbcTemplate.queryForObject("select name from source", String.class);
+	}
+
+	private static DataSource database(String name) {
+		DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table if not exists source (name varchar(16))");
+		jdbc.execute("delete from source");
+		jdbc.update("insert into source values (?)", name);
+		return dataSource;
+	}
+}
@@ -0,0 +1,329 @@
+package com.example.server.loadtest;
+
+import com.example.server.TestPostgres;
+import com.example.server.model.Crop;
+import com.example.server.model.Cultivation;
+import com.example.server.model.Fertilizer;
+import com.example.server.model.News;
+import com.example.server.repository.CropRepository;
+import com.example.server.repository.CultivationRepository;
+import com.example.server.repository.FertilizerRepository;
+import com.example.server.repository.NewsRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load test against the full server on an embedded PostgreSQL and a stub
+ * intelligence service. Excluded from the normal build; run it with
+ * {@code mvn test -Pload-test} and tune it with the {@code loadtest.*} system properties.
+ * The report is printed and written to target/load-test-report.txt.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTest {
+
+	private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+	private static final int STUB_LATENCY_MS = Integer.getInteger("loadtest.stub-latency-ms", 800);
+	private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+	private static final int USERS = 100;
+	private static final List<String> COMMON_QUESTIONS = List.of(
+			"When should I apply urea for paddy?",
+			"How much MOP for a one acre tea field?",
+			"What causes yellow leaves in chilli?",
+			"Best time to plant big onion in Yala?",
+			"How do I treat brown planthopper?");
+
+	private static StubIntelligenceServer stub;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private CropRepository cropRepository;
+	@Autowired
+	private FertilizerRepository fertilizerRepository;
+	@Autowired
+	private NewsRepository newsRepository;
+	@Autowired
+	private CultivationRepository cultivationRepository;
+
+	private final HttpClient http = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private List<Long> fertilizerIds;
+	private List<Long> newsIds;
+	private List<Long> cultivationIds;
+
+	private record Operation(String name, int weight, Call call) {
+	}
+
+	@FunctionalInterface
+	private interface Call {
+		int run(ThreadLocalRandom random) throws Exception;
+	}
+
+	@DynamicPropertySource
+	static void environment(DynamicPropertyRegistry registry) throws IOException {
+		TestPostgres.register(registry);
+		stub = new StubIntelligenceServer(Duration.ofMillis(STUB_LATENCY_MS), 0.2);
+		registry.add("intelligence.base-url", stub::baseUrl);
+	}
+
+	@AfterAll
+	static void stopStub() {
+		if (stub != null) {
+			stub.close();
+		}
+	}
+
+	@BeforeAll
+	void seed() {
+		List<Crop> crops = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			crops.add(Crop.builder().name("Crop " + i).description("Seeded crop " + i).imgPath("crops/" + i + ".webp").build());
+		}
+		crops = cropRepository.saveAll(crops);
+
+		List<Fertilizer> fertilizers = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			fertilizers.add(Fertilizer.builder().name("Fertilizer " + i).description("Seeded fertilizer " + i)
+					.instructions("Apply in split doses").percentage("46-0-0").build());
+		}
+		fertilizerIds = fertilizerRepository.saveAll(fertilizers).stream().map(Fertilizer::getId).toList();
+
+		List<News> news = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			news.add(News.builder().title("Advisory " + i).body("Seeded article " + i).author("Extension Office")
+					.imagePath("news/" + i + ".webp").timestamp(LocalDateTime.now().minusHours(i)).build());
+		}
+		newsIds = newsRepository.saveAll(news).stream().map(News::getId).toList();
+
+		List<Cultivation> cultivations = new ArrayList<>();
+		for (int i = 0; i < 5 * USERS; i++) {
+			cultivations.add(Cultivation.builder().userId(user(i % USERS)).crop(crops.get(i % crops.size()))
+					.soilType("Red").landArea(1.5).location("District " + (i % 25)).build());
+		}
+		cultivationIds = cultivationRepository.saveAll(cultivations).stream().map(Cultivation::getId).toList();
+	}
+
+	@Test
+	void appTrafficMix() throws Exception {
+		List<Operation> mix = List.of(
+				new Operation("GET fertilizers", 12, r -> get("/api/fertilizers")),
+				new Operation("GET crops", 8, r -> get("/api/crops")),
+				new Operation("GET news feed", 15, r -> get("/news")),
+				new Operation("GET news article", 5, r -> get("/news/" + pick(newsIds, r))),
+				new Operation("GET comments", 10, r -> get("/news/" + pick(newsIds, r) + "/comments")),
+				new Operation("POST comment", 4, r -> post("/news/comment",
+						"{\"content\":\"Useful, thanks\",\"userId\":\"" + user(r.nextInt(USERS)) + "\",\"newsId\":" + pick(newsIds, r) + "}")),
+				new Operation("GET user cultivations", 10, r -> get("/api/cultivations/user/" + user(r.nextInt(USERS)))),
+				new Operation("GET cultivation detail", 8, r -> get("/api/cultivations/" + pick(cultivationIds, r))),
+				new Operation("POST fertilizer log", 8, r -> post("/api/fertilizerLogs",
+						"{\"cultivationId\":" + pick(cultivationIds, r) + ",\"fertilizerId\":" + pick(fertilizerIds, r) + "}")),
+				new Operation("GET fertilizer logs", 6, r -> get("/api/fertilizerLogs/" + pick(cultivationIds, r))),
+				new Operation("POST chat message", 10, r -> post("/messages/send",
+						"{\"userId\":\"" + user(r.nextInt(USERS)) + "\",\"content\":\"" + question(r) + "\"}")),
+				new Operation("GET chat history", 4, r -> get("/messages/" + user(r.nextInt(USERS)))));
+		int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+
+		long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+		long end = warmupEnd + TimeUnit.SECONDS.toNanos(SECONDS);
+
+		ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+		List<Future<Map<String, Samples>>> results = new ArrayList<>();
+		for (int w = 0; w < CONCURRENCY; w++) {
+			results.add(workers.submit(() -> {
+				Map<String, Samples> samples = new HashMap<>();
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				while (System.nanoTime() < end) {
+					Operation operation = choose(mix, totalWeight, random);
+					long start = System.nanoTime();
+					boolean ok;
+					try {
+						int status = operation.call().run(random);
+						ok = status >= 200 && status < 300;
+					} catch (Exception e) {
+						ok = false;
+					}
+					long finished = System.nanoTime();
+					if (start >= warmupEnd && finished <= end) {
+						samples.computeIfAbsent(operation.name(), name -> new Samples()).add(finished - start, ok);
+					}
+				}
+				return samples;
+			}));
+		}
+
+		Map<String, Samples> merged = new HashMap<>();
+		for (Future<Map<String, Samples>> result : results) {
+			result.get().forEach((name, samples) -> merged.computeIfAbsent(name, n -> new Samples()).addAll(samples));
+		}
+		workers.shutdown();
+
+		Samples total = new Samples();
+		merged.values().forEach(total::addAll);
+		String report = report(mix, merged, total);
+		System.out.println(report);
+		Files.createDirectories(Path.of("target"));
+		Files.writeString(Path.of("target", "load-test-report.txt"), report);
+
+		assertThat(total.count()).isPositive();
+		assertThat((double) total.errors() / total.count()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+	}
+
+	private String report(List<Operation> mix, Map<String, Samples> merged, Samples total) {
+		StringBuilder out = new StringBuilder();
+		out.append(String.format(Locale.ROOT, "Load test: %d workers, %ds measured after %ds warm-up, stub latency %dms%n",
+				CONCURRENCY, SECONDS, WARMUP_SECONDS, STUB_LATENCY_MS));
+		out.append(String.format(Locale.ROOT, "%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+				"operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+		for (Operation operation : mix) {
+			Samples samples = merged.get(operation.name());
+			if (samples != null) {
+				out.append(row(operation.name(), samples));
+			}
+		}
+		out.append(row("TOTAL", total));
+		return out.toString();
+	}
+
+	private String row(String name, Samples samples) {
+		long[] sorted = samples.sortedLatencies();
+		return String.format(Locale.ROOT, "%-24s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+				name, samples.count(), samples.errors(), (double) samples.count() / SECONDS,
+				millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+				millis(percentile(sorted, 0.99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+	}
+
+	private int get(String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET().build();
+		return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private int post(String path, String json) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+		return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + port + path);
+	}
+
+	// Roughly a third of chat traffic repeats common questions, the rest is unique
+	private static String question(ThreadLocalRandom random) {
+		if (random.nextInt(3) == 0) {
+			return COMMON_QUESTIONS.get(random.nextInt(COMMON_QUESTIONS.size()));
+		}
+		return "How much fertilizer for field " + random.nextInt(1_000_000) + "?";
+	}
+
+	private static Operation choose(List<Operation> mix, int totalWeight, ThreadLocalRandom random) {
+		int roll = random.nextInt(totalWeight);
+		for (Operation operation : mix) {
+			roll -= operation.weight();
+			if (roll < 0) {
+				return operation;
+			}
+		}
+		return mix.get(mix.size() - 1);
+	}
+
+	private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+		return ids.get(random.nextInt(ids.size()));
+	}
+
+	private static String user(int index) {
+		return "load-user-" + index;
+	}
+
+	private static long percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(quantile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static class Samples {
+		private long[] latencies = new long[1024];
+		private int count;
+		private int errors;
+
+		void add(long latency, boolean ok) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = latency;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		void addAll(Samples other) {
+			for (int i = 0; i < other.count; i++) {
+				add(other.latencies[i], true);
+			}
+			errors += other.errors;
+		}
+
+		long[] sortedLatencies() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		int count() {
+			return count;
+		}
+
+		int errors() {
+			return errors;
+		}
+	}
+}
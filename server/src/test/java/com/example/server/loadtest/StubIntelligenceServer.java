@@ -0,0 +1,83 @@
+package com.example.server.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for the intelligence service's chat API. Each reply waits the configured
+ * latency (plus or minus the jitter fraction) before answering, like an LLM round trip.
+ */
+class StubIntelligenceServer implements AutoCloseable {
+
+	private static final String REPLY = "Apply urea in two or three split doses: at 2 weeks, at tillering and at panicle initiation.";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Duration latency;
+	private final double jitter;
+
+	StubIntelligenceServer(Duration latency, double jitter) throws IOException {
+		this.latency = latency;
+		this.jitter = jitter;
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+		server.createContext("/chat/get-agent-response/", this::reply);
+		server.createContext("/chat/stream-agent-response/", this::stream);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	private void reply(HttpExchange exchange) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		pause(1.0);
+		byte[] body = ("{\"data\":{\"output\":\"" + REPLY + "\"}}").getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	// Same total latency, spread over one NDJSON line per word
+	private void stream(HttpExchange exchange) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		String[] words = REPLY.split(" ");
+		exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+		exchange.sendResponseHeaders(200, 0);
+		try (OutputStream out = exchange.getResponseBody()) {
+			for (String word : words) {
+				pause(1.0 / words.length);
+				out.write(("{\"token\":\"" + word + " \"}\n").getBytes(StandardCharsets.UTF_8));
+				out.flush();
+			}
+		}
+	}
+
+	private void pause(double share) {
+		double factor = 1 + (ThreadLocalRandom.current().nextDouble() * 2 - 1) * jitter;
+		long millis = Math.round(latency.toMillis() * share * factor);
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
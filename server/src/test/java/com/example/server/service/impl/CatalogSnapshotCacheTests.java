@@ -0,0 +1,82 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CatalogSnapshotDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotCacheTests {
+
+	private CatalogSnapshotCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new CatalogSnapshotCache(new ObjectMapper(), new MappingJackson2CborHttpMessageConverter(),
+				new MappingJackson2SmileHttpMessageConverter());
+		ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+	}
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Callable<CatalogSnapshotDTO> request = () -> cache.get("crops", MediaType.APPLICATION_JSON, () -> {
+			loads.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return List.of("maize", "paddy");
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CatalogSnapshotDTO>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(request));
+			}
+			// Let every request reach the cache while the first load is still blocked
+			Thread.sleep(200);
+			release.countDown();
+
+			CatalogSnapshotDTO first = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<CatalogSnapshotDTO> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+			}
+			assertThat(loads).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invalidationDuringLoadIsNotPublished() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("crops", MediaType.APPLICATION_JSON, () -> {
+			loads.incrementAndGet();
+			cache.invalidate("crops");
+			return List.of("maize");
+		});
+
+		cache.get("crops", MediaType.APPLICATION_JSON, () -> List.of("maize", loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.server.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatAnswerCacheTests {
+
+	private final ChatAnswerCache cache = new ChatAnswerCache(2, Duration.ofHours(1), 300);
+
+	@Test
+	void normalizesCaseWhitespaceAndPunctuation() {
+		assertThat(cache.keyFor("  When to apply UREA for paddy?? "))
+				.isEqualTo(cache.keyFor("when to apply urea, for paddy"));
+	}
+
+	@Test
+	void normalizesSinhalaJoinersPunctuationAndDigits() {
+		// "ශ්‍රී" typed with and without ZWJ, kunddaliya vs full stop, Sinhala lith digits vs ASCII
+		assertThat(cache.keyFor("ශ්‍රී ලංකාව ෧෦ kg෴"))
+				.isEqualTo(cache.keyFor("ශ්රී ලංකාව 10 kg."));
+	}
+
+	@Test
+	void skipsEmptyAndOverlongQuestions() {
+		assertThat(cache.keyFor("?!")).isNull();
+		assertThat(cache.keyFor("a".repeat(301))).isNull();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedAndCountsHits() {
+		cache.put("a", "A", cache.generation());
+		cache.put("b", "B", cache.generation());
+		cache.get("a");
+		cache.put("c", "C", cache.generation());
+
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo("A");
+		assertThat(cache.stats().getEvictions()).isEqualTo(1);
+		assertThat(cache.stats().getHits()).isEqualTo(2);
+		assertThat(cache.stats().getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void dropsAnswersThatStraddleAnInvalidation() {
+		long generation = cache.generation();
+		cache.invalidateAll();
+		cache.put("a", "A", generation);
+
+		assertThat(cache.get("a")).isNull();
+	}
+}
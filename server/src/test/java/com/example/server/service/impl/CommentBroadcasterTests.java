@@ -0,0 +1,62 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.CommentResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentBroadcasterTests {
+
+	// Senders are only queued, never run, so every subscriber behaves like a client that stopped reading
+	private final List<Runnable> senders = new ArrayList<>();
+	private CommentBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		broadcaster = new CommentBroadcaster(new ObjectMapper().findAndRegisterModules(), senders::add);
+		ReflectionTestUtils.setField(broadcaster, "bufferSize", 2);
+		ReflectionTestUtils.setField(broadcaster, "timeout", Duration.ofMinutes(1));
+	}
+
+	@Test
+	void disconnectsOnlyTheSubscriberWhoseBufferIsFull() {
+		broadcaster.subscribe(1L);
+		broadcaster.subscribe(2L);
+		publish(1L, 10L);
+		publish(1L, 11L);
+		broadcaster.subscribe(1L);
+
+		publish(1L, 12L);
+
+		assertThat(broadcaster.getEvictions()).isEqualTo(1);
+		assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+	}
+
+	@Test
+	void startsOneSenderPerSubscriberWhileItIsBehind() {
+		broadcaster.subscribe(1L);
+		publish(1L, 10L);
+		publish(1L, 11L);
+		publish(2L, 12L);
+
+		assertThat(senders).hasSize(1);
+		assertThat(broadcaster.getEvictions()).isZero();
+	}
+
+	private void publish(Long newsId, Long commentId) {
+		broadcaster.onCommentCreated(new CommentCreatedEvent(newsId, CommentResponseDTO.builder()
+				.id(commentId)
+				.content("comment " + commentId)
+				.userId("u1")
+				.timestamp(LocalDateTime.now())
+				.build()));
+	}
+}
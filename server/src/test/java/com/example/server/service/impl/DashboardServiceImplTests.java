@@ -0,0 +1,97 @@
+package com.example.server.service.impl;
+
+import com.example.server.config.AsyncConfig;
+import com.example.server.dto.CultivationDTO;
+import com.example.server.dto.CultivationDetailDTO;
+import com.example.server.dto.CursorPageDTO;
+import com.example.server.dto.FertilizerLogDTO;
+import com.example.server.dto.MessageResponseDTO;
+import com.example.server.dto.UserDashboardDTO;
+import com.example.server.service.CultivationService;
+import com.example.server.service.MessageService;
+import com.example.server.service.NewsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceImplTests {
+
+	private final CultivationService cultivationService = mock(CultivationService.class);
+	private final MessageService messageService = mock(MessageService.class);
+	private final NewsService newsService = mock(NewsService.class);
+	private DashboardServiceImpl dashboardService;
+
+	@BeforeEach
+	void setUp() {
+		dashboardService = new DashboardServiceImpl(cultivationService, messageService, newsService,
+				new AsyncConfig().dashboardExecutor());
+		ReflectionTestUtils.setField(dashboardService, "deadline", Duration.ofMillis(300));
+		ReflectionTestUtils.setField(dashboardService, "logLimit", 10);
+		ReflectionTestUtils.setField(dashboardService, "messageLimit", 20);
+		ReflectionTestUtils.setField(dashboardService, "newsLimit", 10);
+
+		when(cultivationService.getCultivationsByUserId("u1")).thenReturn(List.of(
+				CultivationDTO.builder().id(1L).cropName("Paddy").userId("u1").build(),
+				CultivationDTO.builder().id(2L).cropName("Maize").userId("u1").build()));
+		when(messageService.getMessagesByUserId("u1", null, 20)).thenReturn(
+				CursorPageDTO.<MessageResponseDTO>builder().items(List.of()).build());
+	}
+
+	@Test
+	void returnsWhatFinishedByTheDeadlineAndCancelsTheRest() throws InterruptedException {
+		CountDownLatch cancelled = new CountDownLatch(2);
+		when(cultivationService.getRecentLogsByUserId("u1", 10)).thenAnswer(invocation -> blockUntilCancelled(cancelled));
+		when(newsService.getNewsFeed(null, 10)).thenAnswer(invocation -> blockUntilCancelled(cancelled));
+
+		long start = System.nanoTime();
+		UserDashboardDTO dashboard = dashboardService.getDashboard("u1");
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+		assertThat(dashboard.getMessages().getItems()).isEmpty();
+		assertThat(dashboard.getNews()).isNull();
+		assertThat(dashboard.getCultivations()).extracting(CultivationDetailDTO::getCropName)
+				.containsExactly("Paddy", "Maize");
+		assertThat(dashboard.getCultivations()).allSatisfy(cultivation -> assertThat(cultivation.getRecentLogs()).isNull());
+		assertThat(dashboard.getIncomplete()).containsExactly("fertilizerLogs", "news");
+		assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void dropsOnlyTheFailedSection() {
+		FertilizerLogDTO urea = FertilizerLogDTO.builder().id(7L).cultivationId(1L).fertilizerName("Urea").build();
+		when(cultivationService.getRecentLogsByUserId("u1", 10)).thenReturn(Map.of(1L, List.of(urea)));
+		when(newsService.getNewsFeed(null, 10)).thenThrow(new IllegalStateException("feed unavailable"));
+
+		UserDashboardDTO dashboard = dashboardService.getDashboard("u1");
+
+		assertThat(dashboard.getCultivations()).extracting(CultivationDetailDTO::getRecentLogs)
+				.containsExactly(List.of(urea), List.of());
+		assertThat(dashboard.getMessages()).isNotNull();
+		assertThat(dashboard.getNews()).isNull();
+		assertThat(dashboard.getIncomplete()).containsExactly("news");
+		verify(cultivationService, never()).getCultivationDetail(anyLong(), anyInt());
+	}
+
+	private static Object blockUntilCancelled(CountDownLatch cancelled) {
+		try {
+			Thread.sleep(Duration.ofSeconds(30));
+		} catch (InterruptedException e) {
+			cancelled.countDown();
+		}
+		return null;
+	}
+}
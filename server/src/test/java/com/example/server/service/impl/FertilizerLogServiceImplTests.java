@@ -0,0 +1,220 @@
+package com.example.server.service.impl;
+
+import com.example.server.TestPostgres;
+import com.example.server.dto.BulkImportResultDTO;
+import com.example.server.dto.FertilizerLogDTO;
+import com.example.server.dto.FertilizerUsageDTO;
+import com.example.server.model.Crop;
+import com.example.server.model.Cultivation;
+import com.example.server.model.Fertilizer;
+import com.example.server.model.FertilizerLog;
+import com.example.server.repository.FertilizerLogRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// PostgreSQL rather than H2: the usage rollup is maintained with INSERT ... ON CONFLICT
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FertilizerLogServiceImpl.class, FertilizerUsageRollupUpdater.class, AnalyticsServiceImpl.class})
+class FertilizerLogServiceImplTests {
+
+	private static final LocalDateTime SEASON_START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+	@Autowired
+	private FertilizerLogServiceImpl fertilizerLogService;
+
+	@Autowired
+	private AnalyticsServiceImpl analyticsService;
+
+	@Autowired
+	private FertilizerLogRepository fertilizerLogRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long cultivationId;
+
+	private Long ureaId;
+
+	@DynamicPropertySource
+	static void postgres(DynamicPropertyRegistry registry) {
+		TestPostgres.register(registry);
+	}
+
+	@BeforeEach
+	void seedSeason() {
+		Crop crop = entityManager.persist(Crop.builder().name("rice").build());
+		Cultivation cultivation = entityManager.persist(Cultivation.builder().userId("farmer-1").location("Kurunegala").crop(crop).build());
+		Fertilizer urea = entityManager.persist(Fertilizer.builder().name("Urea").build());
+		Fertilizer mop = entityManager.persist(Fertilizer.builder().name("MOP").build());
+
+		for (int day = 0; day < 200; day++) {
+			entityManager.persist(FertilizerLog.builder()
+					.timestamp(SEASON_START.plusDays(day))
+					.cultivation(cultivation)
+					.fertilizer(day % 2 == 0 ? urea : mop)
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		cultivationId = cultivation.getId();
+		ureaId = urea.getId();
+	}
+
+	@Test
+	void loadsWholeSeasonWithOneStatement() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<FertilizerLogDTO> logs = fertilizerLogService.getFertilizerLogByCultivationId(cultivationId, null, null);
+
+		assertThat(logs).hasSize(200);
+		assertThat(logs.get(0).getTimestamp()).isEqualTo(SEASON_START.plusDays(199));
+		assertThat(logs.get(0).getFertilizerName()).isEqualTo("MOP");
+		assertThat(logs.get(0).getCultivationId()).isEqualTo(cultivationId);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void filtersByDateRange() {
+		List<FertilizerLogDTO> logs = fertilizerLogService.getFertilizerLogByCultivationId(
+				cultivationId, SEASON_START.plusDays(10), SEASON_START.plusDays(20));
+
+		assertThat(logs).hasSize(10);
+		assertThat(logs).allSatisfy(log -> assertThat(log.getTimestamp())
+				.isAfterOrEqualTo(SEASON_START.plusDays(10))
+				.isBefore(SEASON_START.plusDays(20)));
+	}
+
+	@Test
+	void loadsRecentLogsOfEveryCultivationWithOneStatement() {
+		Cultivation chilli = entityManager.persist(Cultivation.builder().userId("farmer-1").location("Matale").build());
+		Cultivation neighbour = entityManager.persist(Cultivation.builder().userId("farmer-2").location("Matale").build());
+		Fertilizer urea = entityManager.find(Fertilizer.class, ureaId);
+		for (int day = 0; day < 2; day++) {
+			entityManager.persist(FertilizerLog.builder().timestamp(SEASON_START.plusDays(day)).cultivation(chilli).fertilizer(urea).build());
+			entityManager.persist(FertilizerLog.builder().timestamp(SEASON_START.plusDays(day)).cultivation(neighbour).fertilizer(urea).build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<FertilizerLogDTO> logs = fertilizerLogRepository.findRecentDTOsByUserId("farmer-1", 3);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(logs).extracting(FertilizerLogDTO::getCultivationId, FertilizerLogDTO::getTimestamp)
+				.containsExactly(
+						tuple(cultivationId, SEASON_START.plusDays(199)),
+						tuple(cultivationId, SEASON_START.plusDays(198)),
+						tuple(cultivationId, SEASON_START.plusDays(197)),
+						tuple(chilli.getId(), SEASON_START.plusDays(1)),
+						tuple(chilli.getId(), SEASON_START));
+		assertThat(logs.get(0).getFertilizerName()).isEqualTo("MOP");
+	}
+
+	@Test
+	void importsCsvInBatchesAndReportsBadRows() {
+		StringBuilder csv = new StringBuilder("cultivationId,fertilizerId,timestamp\n");
+		for (int i = 0; i < 1000; i++) {
+			csv.append(cultivationId).append(',').append(ureaId).append(',').append(SEASON_START.plusHours(i)).append('\n');
+		}
+		csv.append(cultivationId).append(",999999,2025-06-01\n");
+		csv.append("not-a-number,").append(ureaId).append(",\n");
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		BulkImportResultDTO result = fertilizerLogService.importFertilizerLogsCsv(
+				new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getReceived()).isEqualTo(1002);
+		assertThat(result.getInserted()).isEqualTo(1000);
+		assertThat(result.getErrors()).extracting("row").containsExactly(1002, 1003);
+		// Only the referenced cultivation is loaded, once, for its rollup key
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+		assertThat(fertilizerLogService.getFertilizerLogByCultivationId(cultivationId, null, null)).hasSize(1200);
+	}
+
+	@Test
+	void importsQuotedCsvAsWrittenBySpreadsheets() {
+		String csv = "\uFEFF\"Timestamp\",\"Note\",\"cultivationId\",\"fertilizerId\"\r\n"
+				+ "\"2024-02-01T08:00:00\",\"split, then top-dressed\",\"" + cultivationId + "\",\"" + ureaId + "\"\r\n"
+				+ "\r\n"
+				+ "\"2024-02-03\",\"said \"\"light\"\"\nrain\",\"" + cultivationId + "\",\"" + ureaId + "\"\r\n"
+				+ "\"2024-02-04\",\"\",\"x\",\"" + ureaId + "\"\r\n";
+
+		BulkImportResultDTO result = fertilizerLogService.importFertilizerLogsCsv(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.getReceived()).isEqualTo(3);
+		assertThat(result.getInserted()).isEqualTo(2);
+		assertThat(result.getErrors()).extracting("row").containsExactly(6);
+		assertThat(fertilizerLogService.getFertilizerLogByCultivationId(
+				cultivationId, LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 2, 28, 0, 0)))
+				.extracting(FertilizerLogDTO::getTimestamp)
+				.containsExactlyInAnyOrder(LocalDateTime.of(2024, 2, 1, 8, 0), LocalDateTime.of(2024, 2, 3, 0, 0));
+	}
+
+	@Test
+	void keepsUsageRollupInStepWithLogWrites() {
+		Long logId = fertilizerLogService.createFertilizerLog(FertilizerLogDTO.builder()
+				.cultivationId(cultivationId).fertilizerId(ureaId).timestamp(LocalDateTime.of(2025, 3, 2, 7, 0)).build());
+		fertilizerLogService.createFertilizerLog(FertilizerLogDTO.builder()
+				.cultivationId(cultivationId).fertilizerId(ureaId).timestamp(LocalDateTime.of(2025, 3, 20, 7, 0)).build());
+		fertilizerLogService.createFertilizerLogs(List.of(
+				FertilizerLogDTO.builder().cultivationId(cultivationId).fertilizerId(ureaId).timestamp(LocalDateTime.of(2025, 3, 25, 7, 0)).build(),
+				FertilizerLogDTO.builder().cultivationId(cultivationId).fertilizerId(ureaId).timestamp(LocalDateTime.of(2025, 4, 1, 7, 0)).build()));
+		fertilizerLogService.deleteFertilizerLog(logId);
+
+		List<FertilizerUsageDTO> usage = analyticsService.getFertilizerUsage(
+				List.of("crop", "month", "location"), YearMonth.of(2025, 3), YearMonth.of(2025, 4));
+
+		assertThat(usage).extracting(FertilizerUsageDTO::getMonth, FertilizerUsageDTO::getLogCount)
+				.containsExactly(
+						tuple(YearMonth.of(2025, 3), 2L),
+						tuple(YearMonth.of(2025, 4), 1L));
+		assertThat(usage).allSatisfy(row -> {
+			assertThat(row.getCropName()).isEqualTo("rice");
+			assertThat(row.getLocation()).isEqualTo("Kurunegala");
+			assertThat(row.getFertilizerName()).isEqualTo("Urea");
+		});
+	}
+
+	@Test
+	void deletesLogsThatWereNeverCounted() {
+		FertilizerLog orphan = entityManager.persist(FertilizerLog.builder()
+				.timestamp(LocalDateTime.of(2025, 3, 2, 7, 0))
+				.fertilizer(entityManager.find(Fertilizer.class, ureaId))
+				.build());
+		entityManager.flush();
+
+		fertilizerLogService.deleteFertilizerLog(orphan.getId());
+
+		assertThat(fertilizerLogRepository.findById(orphan.getId())).isEmpty();
+	}
+}
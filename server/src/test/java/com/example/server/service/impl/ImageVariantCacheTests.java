@@ -0,0 +1,93 @@
+package com.example.server.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantCacheTests {
+
+	@TempDir
+	Path directory;
+
+	private ImageVariantCache cache;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		cache = new ImageVariantCache();
+		ReflectionTestUtils.setField(cache, "directory", directory);
+		ReflectionTestUtils.setField(cache, "maxSize", DataSize.ofBytes(250));
+		cache.load();
+	}
+
+	@Test
+	void evictsTheLeastRecentlyServedVariantOnceOverTheLimit() throws IOException {
+		AtomicInteger generated = new AtomicInteger();
+		serve("a.jpg", generated);
+		serve("b.jpg", generated);
+		serve("a.jpg", generated);
+
+		serve("c.jpg", generated);
+
+		assertThat(generated).hasValue(3);
+		assertThat(directory.resolve("a.jpg")).exists();
+		assertThat(directory.resolve("b.jpg")).doesNotExist();
+		assertThat(directory.resolve("c.jpg")).exists();
+		assertThat(cache.getTotalBytes()).isEqualTo(200);
+	}
+
+	@Test
+	void servesAnOpenedVariantEvenIfItIsEvictedMeanwhile() throws IOException {
+		AtomicInteger generated = new AtomicInteger();
+		try (FileChannel served = cache.open("a.jpg", () -> bytes(100, generated))) {
+			serve("b.jpg", generated);
+			serve("c.jpg", generated);
+			assertThat(directory.resolve("a.jpg")).doesNotExist();
+
+			ByteBuffer content = ByteBuffer.allocate(200);
+			while (served.read(content) > 0) {
+				// keep reading until end of file
+			}
+			assertThat(content.position()).isEqualTo(100);
+		}
+	}
+
+	@Test
+	void downscalesWithoutEnlarging() throws IOException {
+		BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(source, "png", png);
+
+		BufferedImage small = ImageIO.read(new ByteArrayInputStream(
+				ImageResizer.resize(png.toByteArray(), 160, ImageResizer.JPEG, 1_000_000)));
+		BufferedImage large = ImageIO.read(new ByteArrayInputStream(
+				ImageResizer.resize(png.toByteArray(), 1280, ImageResizer.PNG, 1_000_000)));
+
+		assertThat(small.getWidth()).isEqualTo(160);
+		assertThat(small.getHeight()).isEqualTo(80);
+		assertThat(large.getWidth()).isEqualTo(1000);
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	private void serve(String name, AtomicInteger generated) throws IOException {
+		cache.open(name, () -> bytes(100, generated)).close();
+	}
+
+	private static byte[] bytes(int length, AtomicInteger generated) {
+		generated.incrementAndGet();
+		return new byte[length];
+	}
+}
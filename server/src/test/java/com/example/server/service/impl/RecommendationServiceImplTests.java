@@ -0,0 +1,137 @@
+package com.example.server.service.impl;
+
+import com.example.server.dto.FertilizerChoiceDTO;
+import com.example.server.dto.FertilizerRecommendationDTO;
+import com.example.server.dto.FertilizerRecommendationRequestDTO;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.ml.FertilizerDecisionTree;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecommendationServiceImplTests {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final List<String> FEATURES = List.of(
+			"Temperature", "Moisture", "Rainfall", "PH", "Nitrogen", "Phosphorous", "Potassium", "Carbon",
+			"Soil_Acidic Soil", "Soil_Loamy Soil", "Crop_maize", "Crop_rice");
+
+	// Labeled readings (nitrogen, soil, fertilizer) and the depth-2 tree fit to them: nitrogen <= 40.5, then
+	// acidic soil. Leaf probabilities are the class fractions of the readings that reach the leaf.
+	private static final List<Labeled> TRAINING = List.of(
+			new Labeled(20, "Loamy Soil", "Urea"),
+			new Labeled(25, "Loamy Soil", "Urea"),
+			new Labeled(30, "Loamy Soil", "Urea"),
+			new Labeled(35, "Loamy Soil", "DAP"),
+			new Labeled(22, "Acidic Soil", "Lime"),
+			new Labeled(38, "Acidic Soil", "Lime"),
+			new Labeled(45, "Loamy Soil", "DAP"),
+			new Labeled(50, "Acidic Soil", "DAP"),
+			new Labeled(60, "Loamy Soil", "DAP"),
+			new Labeled(70, "Loamy Soil", "Lime"),
+			new Labeled(80, "Acidic Soil", "Urea"));
+
+	private static final Map<String, Object> TREE = Map.of(
+			"source", "test",
+			"features", FEATURES,
+			"classes", List.of("DAP", "Lime", "Urea"),
+			"left", new int[] {1, 3, -1, -1, -1},
+			"right", new int[] {2, 4, -1, -1, -1},
+			"feature", new int[] {4, 8, -2, -2, -2},
+			"threshold", new double[] {40.5, 0.5, -2, -2, -2},
+			"value", new double[][] {
+					{4 / 11.0, 3 / 11.0, 4 / 11.0},
+					{1 / 6.0, 2 / 6.0, 3 / 6.0},
+					{0.6, 0.2, 0.2},
+					{0.25, 0, 0.75},
+					{0, 1, 0}});
+
+	@Test
+	void predictsTheMajorityClassOfEachTrainingLeaf() throws Exception {
+		RecommendationServiceImpl service = service(TREE);
+
+		List<String> predicted = new ArrayList<>();
+		int correct = 0;
+		for (Labeled reading : TRAINING) {
+			String fertilizer = service.recommendFertilizer(reading.request()).getFertilizer();
+			predicted.add(fertilizer);
+			correct += fertilizer.equals(reading.fertilizer()) ? 1 : 0;
+		}
+
+		assertThat(predicted).containsExactly(
+				"Urea", "Urea", "Urea", "Urea", "Lime", "Lime", "DAP", "DAP", "DAP", "DAP", "DAP");
+		// Only the minority readings of the two impure leaves are misclassified
+		assertThat(correct).isEqualTo(8);
+	}
+
+	@Test
+	void ranksClassesByProbabilityWithTiesToTheLowerIndex() throws Exception {
+		RecommendationServiceImpl service = service(TREE);
+
+		FertilizerRecommendationDTO lowNitrogen = service.recommendFertilizer(new Labeled(30, "Loamy Soil", null).request());
+		assertThat(lowNitrogen.getTopChoices()).containsExactly(
+				new FertilizerChoiceDTO("Urea", 0.75), new FertilizerChoiceDTO("DAP", 0.25), new FertilizerChoiceDTO("Lime", 0.0));
+		assertThat(lowNitrogen.getConfidence()).isEqualTo(0.75);
+
+		FertilizerRecommendationDTO highNitrogen = service.recommendFertilizer(new Labeled(60, "Acidic Soil", null).request());
+		assertThat(highNitrogen.getTopChoices()).extracting(FertilizerChoiceDTO::getFertilizer)
+				.containsExactly("DAP", "Lime", "Urea");
+	}
+
+	@Test
+	void ranksNoMoreChoicesThanTheModelHasClasses() throws Exception {
+		Map<String, Object> twoClasses = Map.of(
+				"source", "test",
+				"features", FEATURES,
+				"classes", List.of("DAP", "Urea"),
+				"left", new int[] {1, -1, -1},
+				"right", new int[] {2, -1, -1},
+				"feature", new int[] {4, -2, -2},
+				"threshold", new double[] {40.5, -2, -2},
+				"value", new double[][] {{0.5, 0.5}, {0.2, 0.8}, {0.9, 0.1}});
+
+		FertilizerDecisionTree tree = FertilizerDecisionTree.load(
+				new ByteArrayInputStream(OBJECT_MAPPER.writeValueAsBytes(twoClasses)), OBJECT_MAPPER);
+		assertThat(tree.getTopChoiceCount()).isEqualTo(2);
+
+		FertilizerRecommendationDTO result = service(twoClasses).recommendFertilizer(new Labeled(20, "Loamy Soil", null).request());
+		assertThat(result.getTopChoices()).extracting(FertilizerChoiceDTO::getFertilizer).containsExactly("Urea", "DAP");
+	}
+
+	@Test
+	void rejectsUnknownSoilAndMissingFeatures() throws Exception {
+		RecommendationServiceImpl service = service(TREE);
+
+		assertThatThrownBy(() -> service.recommendFertilizer(new Labeled(30, "Sandy Soil", null).request()))
+				.isInstanceOf(BadRequestException.class);
+		FertilizerRecommendationRequestDTO missing = new Labeled(30, "Loamy Soil", null).request();
+		missing.setCarbon(null);
+		assertThatThrownBy(() -> service.recommendFertilizer(missing))
+				.isInstanceOf(BadRequestException.class)
+				.hasMessage("Missing feature: carbon");
+	}
+
+	private static RecommendationServiceImpl service(Map<String, Object> tree) throws Exception {
+		return new RecommendationServiceImpl(OBJECT_MAPPER, new ByteArrayResource(OBJECT_MAPPER.writeValueAsBytes(tree)));
+	}
+
+	private record Labeled(double nitrogen, String soil, String fertilizer) {
+
+		FertilizerRecommendationRequestDTO request() {
+			return FertilizerRecommendationRequestDTO.builder()
+					.temperature(28.0).moisture(0.6).rainfall(150.0).ph(6.5)
+					.nitrogen(nitrogen).phosphorous(40.0).potassium(40.0).carbon(1.2)
+					.soil(soil).crop("rice")
+					.build();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.server.service.impl;
+
+import com.example.server.TestPostgres;
+import com.example.server.dto.SearchHitDTO;
+import com.example.server.exceptions.BadRequestException;
+import com.example.server.model.Crop;
+import com.example.server.model.Fertilizer;
+import com.example.server.model.News;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// PostgreSQL rather than H2: search runs on the tsvector columns and ts_rank_cd/ts_headline
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SearchServiceImpl.class)
+class SearchServiceImplTests {
+
+	@Autowired
+	private SearchServiceImpl searchService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Long ureaId;
+
+	private Long topDressingId;
+
+	private Long marketReportId;
+
+	private Long sinhalaNewsId;
+
+	@DynamicPropertySource
+	static void postgres(DynamicPropertyRegistry registry) {
+		TestPostgres.register(registry);
+	}
+
+	@BeforeEach
+	void seedDocuments() {
+		ureaId = entityManager.persist(Fertilizer.builder()
+				.name("Urea")
+				.description("Nitrogen fertilizer with 46% N.")
+				.instructions("Apply urea in split doses on moist soil.")
+				.build()).getId();
+		topDressingId = entityManager.persist(News.builder()
+				.title("Top dressing paddies with urea")
+				.body("Farmers in Kurunegala apply urea to their paddies two weeks after transplanting, "
+						+ "and again at panicle initiation.")
+				.build()).getId();
+		marketReportId = entityManager.persist(News.builder()
+				.title("Weekly market report")
+				.body("Vegetable prices at Dambulla rose again as heavy rain cut supplies from the hill country. "
+						+ "Carrot, leeks and beans cost the most; onion and potato stayed steady. "
+						+ "Dealers reported steady demand for urea.")
+				.build()).getId();
+		sinhalaNewsId = entityManager.persist(News.builder()
+				.title("වී වගාව සඳහා පොහොර")
+				.body("මෙම කන්නයේ වී වගාවට යූරියා පොහොර යොදන්න. වැසි අඩු කාලයේදී පොහොර යෙදීම කල් දමන්න.")
+				.build()).getId();
+		entityManager.persist(Crop.builder().name("Maize").description("Grown in the dry zone during Maha.").build());
+		entityManager.flush();
+	}
+
+	@Test
+	void stemsEnglishAndRanksTitleMatchesAboveBodyMatches() {
+		List<SearchHitDTO> hits = searchService.search("urea", null, null).getItems();
+
+		// Fertilizer, news and crop hits are ranked together; the market report only mentions urea in passing
+		assertThat(hits).extracting(SearchHitDTO::getType, SearchHitDTO::getId)
+				.containsExactly(
+						tuple("fertilizer", ureaId),
+						tuple("news", topDressingId),
+						tuple("news", marketReportId));
+		assertThat(hits.get(0).getRank()).isGreaterThan(hits.get(2).getRank());
+
+		// "paddy" finds "paddies" through the english stemmer
+		assertThat(searchService.search("paddy", null, null).getItems())
+				.extracting(SearchHitDTO::getId)
+				.containsExactly(topDressingId);
+	}
+
+	@Test
+	void highlightsMatchesInTitlesAndSnippets() {
+		SearchHitDTO hit = searchService.search("paddies urea", null, null).getItems().get(0);
+
+		assertThat(hit.getTitle()).isEqualTo("Top dressing <b>paddies</b> with <b>urea</b>");
+		assertThat(hit.getSnippet()).contains("apply <b>urea</b> to their <b>paddies</b>");
+	}
+
+	@Test
+	void matchesInflectedSinhalaWordsByPrefix() {
+		List<SearchHitDTO> hits = searchService.search("වගාව පොහොර", null, null).getItems();
+
+		assertThat(hits).extracting(SearchHitDTO::getId).containsExactly(sinhalaNewsId);
+		assertThat(hits.get(0).getTitle()).isEqualTo("වී <b>වගාව</b> සඳහා <b>පොහොර</b>");
+		// වගාවට (to the cultivation) is a hit for වගාව
+		assertThat(hits.get(0).getSnippet()).contains("<b>වගාවට</b>");
+	}
+
+	@Test
+	void prefixMatchesWordsAndDropsQuerySyntax() {
+		assertThat(SearchServiceImpl.toTsQuery("urea & (paddy | !maize):*"))
+				.isEqualTo("urea:* & paddy:* & maize:*");
+		assertThat(SearchServiceImpl.toTsQuery("N 46% urea")).isEqualTo("N & 46 & urea:*");
+	}
+
+	@Test
+	void keepsSinhalaWordsWhole() {
+		// Vowel signs and the virama are combining marks and must not split a word
+		assertThat(SearchServiceImpl.toTsQuery("වී වගාවට යොදන්න")).isEqualTo("වී & වගාවට:* & යොදන්න:*");
+	}
+
+	@Test
+	void rejectsQueriesWithoutWords() {
+		assertThatThrownBy(() -> SearchServiceImpl.toTsQuery("  ")).isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> SearchServiceImpl.toTsQuery("?!")).isInstanceOf(BadRequestException.class);
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTests {
+
+	private final StatementCounter counter = new StatementCounter();
+
+	@Test
+	void countsStatementsOfPropagatedTasks() throws Exception {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			StatementCounter.start();
+			counter.inspect("select 1");
+			Runnable task = StatementCounter.propagate(() -> counter.inspect("select 2"));
+			executor.submit(task).get();
+			executor.submit(task).get();
+			// Not decorated: runs outside the request's count
+			executor.submit(() -> counter.inspect("select 3")).get();
+
+			assertThat(StatementCounter.stop()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void restoresTheWorkerThreadsOwnCount() {
+		StatementCounter.start();
+		Runnable task = StatementCounter.propagate(() -> counter.inspect("select 1"));
+		StatementCounter.stop();
+
+		StatementCounter.start();
+		task.run();
+		counter.inspect("select 2");
+
+		assertThat(StatementCounter.stop()).isEqualTo(1);
+	}
+}